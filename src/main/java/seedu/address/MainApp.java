@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -20,10 +21,13 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UndoHistory;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonUndoHistorySpill;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -56,8 +60,16 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        initAddressBookFormat(userPrefs);
+        AddressBookStorage addressBookStorage = AddressBookFormatConverter.createStorage(
+                userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath());
+        if (userPrefs.isAddressBookJournaled()) {
+            // journal records are appended as each change is saved, so saves cannot be deferred to another thread
+            addressBookStorage = new JournaledAddressBookStorage(addressBookStorage);
+            storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        } else {
+            storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
+        }
 
         initLogging(config);
 
@@ -68,10 +80,26 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Converts the data file to the format in {@code userPrefs} if it was saved in the other format, so that the data
+     * is not lost when the format is changed in the preferences file.
+     */
+    private void initAddressBookFormat(ReadOnlyUserPrefs userPrefs) {
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        try {
+            if (AddressBookFormatConverter.convertInPlace(userPrefs.getAddressBookFilePath(), format)) {
+                logger.info("Converted the data file to " + format);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert the data file to " + format + ": " + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * In that case, {@code storage} refuses to save the empty address book over the data file.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -83,14 +111,30 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook, "
+                    + "which will not be saved over the data file");
             initialData = new AddressBook();
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook, "
+                    + "which will not be saved over the data file");
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, initUndoSpill());
+    }
+
+    /**
+     * Returns a temporary file to keep the commands that no longer fit in the undo memory budget, or null if it
+     * cannot be created, in which case those commands cannot be undone.
+     */
+    private UndoHistory.Spill initUndoSpill() {
+        try {
+            return JsonUndoHistorySpill.createTemporary();
+        } catch (IOException e) {
+            logger.warning("Failed to create the undo history file, so older commands cannot be undone: "
+                    + StringUtil.getDetails(e));
+            return null;
+        }
     }
 
     private void initLogging(Config config) {
@@ -174,6 +218,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats that address book data can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** Compact binary, which is smaller and faster to load. */
+    BINARY
+}
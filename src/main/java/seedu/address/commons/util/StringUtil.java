@@ -5,7 +5,10 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +41,97 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words of {@code sentence} in lower case, in order and including repeated words.
+     * Words are separated by whitespace, so a word is matched by {@link #containsWordIgnoreCase(String, String)} if
+     * and only if its lower case form is returned here.
+     *
+     * @param sentence cannot be null
+     */
+    public static List<String> toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> words = new ArrayList<>();
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase(Locale.ROOT));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code words} trimmed and in lower case, in the same order.
+     * The results can be matched against the words returned by {@link #toLowerCaseWords(String)} without changing
+     * their case again.
+     *
+     * @param words cannot be null, and each word cannot be empty and must be a single word
+     */
+    public static List<String> toLowerCase(List<String> words) {
+        requireNonNull(words);
+
+        List<String> lowerCaseWords = new ArrayList<>();
+        for (String word : words) {
+            String preppedWord = word.trim();
+            checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+            lowerCaseWords.add(preppedWord.toLowerCase(Locale.ROOT));
+        }
+        return lowerCaseWords;
+    }
+
+    /**
+     * Returns true if {@code first} can be turned into {@code second} with at most {@code maxEdits} insertions,
+     * deletions or substitutions of a character.
+     * Only the diagonal band of width {@code 2 * maxEdits + 1} of the edit distance table is filled, and the check
+     * stops as soon as every entry of a row is over {@code maxEdits}.
+     *
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxEdits cannot be negative
+     */
+    public static boolean isWithinEditDistance(String first, String second, int maxEdits) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxEdits >= 0, "Maximum number of edits cannot be negative");
+
+        if (Math.abs(first.length() - second.length()) > maxEdits) {
+            return false;
+        }
+        int outOfBand = maxEdits + 1;
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = Math.min(j, outOfBand);
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxEdits);
+            int to = Math.min(second.length(), i + maxEdits);
+            current[0] = Math.min(i, outOfBand);
+            if (from > 1) {
+                current[from - 1] = outOfBand;
+            }
+            int rowMin = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(outOfBand, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < second.length()) {
+                current[to + 1] = outOfBand;
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()] <= maxEdits;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
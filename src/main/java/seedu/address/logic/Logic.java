@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -40,6 +41,11 @@ public interface Logic {
      */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an unmodifiable view of the tasks assigned to {@code person}
+     */
+    Set<Task> getTasksAssignedTo(Person person);
+
     /**
      * Returns an unmodifiable view of the filtered list of tasks
      */
@@ -2,6 +2,9 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,6 +14,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.QueryTaskCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -31,6 +35,9 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** Version of the address book in {@code model} that was last written to {@code storage}. */
+    private long savedAddressBookVersion;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -38,6 +45,25 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBookVersion();
+        restoreTaskViews();
+    }
+
+    /**
+     * Materializes the task views saved in the user prefs of {@code model}. Views that are no longer valid queries
+     * are deleted.
+     */
+    private void restoreTaskViews() {
+        QueryTaskCommandParser queryParser = new QueryTaskCommandParser();
+        Map<String, String> savedViews = new TreeMap<>(model.getUserPrefs().getSavedTaskViews());
+        savedViews.forEach((name, definition) -> {
+            try {
+                model.saveTaskView(name, definition, queryParser.parseQuery(definition));
+            } catch (ParseException pe) {
+                logger.warning("Deleting saved view " + name + " with invalid query " + definition + ": " + pe);
+                model.deleteTaskView(name);
+            }
+        });
     }
 
     @Override
@@ -46,12 +72,21 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            commandResult = command.execute(model);
+        } finally {
+            // changes made before a command fails can be undone too
+            model.commitAddressBook(commandText.trim());
+        }
+
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion != savedAddressBookVersion) {
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            savedAddressBookVersion = addressBookVersion;
         }
 
         return commandResult;
@@ -67,6 +102,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public Set<Task> getTasksAssignedTo(Person person) {
+        return model.getTasksAssignedTo(person);
+    }
+
     @Override
     public ObservableList<Task> getFilteredTaskList() {
         return model.getFilteredTaskList();
@@ -10,7 +10,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.task.Task;
 
 
 /**
@@ -57,15 +56,7 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        for (Task task : model.getFilteredTaskList()) {
-            if (task.getEmail().equals(toAdd.getEmail())) {
-                task.setPerson(toAdd);
-                toAdd.addTask(task);
-            }
-        }
-
         model.addPerson(toAdd);
-        model.update();
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
 
@@ -12,7 +12,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Email;
-import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.task.Task;
 
@@ -60,19 +59,17 @@ public class AddTaskCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_TASK);
         }
 
+        Task task = toAdd;
         if (personEmailAddress != null) {
             try {
-                Person person = model.getPersonByEmail(personEmailAddress);
-                toAdd.setPerson(person);
-                person.addTask(toAdd);
+                task = toAdd.withPerson(model.getPersonByEmail(personEmailAddress));
             } catch (PersonNotFoundException e) {
                 throw new CommandException(MESSAGE_NO_PERSON_WITH_EMAIL);
             }
         }
 
-        model.addTask(toAdd);
-        model.update();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        model.addTask(task);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, task));
     }
 
     @Override
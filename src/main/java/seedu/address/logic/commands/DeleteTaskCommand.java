@@ -8,7 +8,6 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
 import seedu.address.model.task.Task;
 
 
@@ -44,14 +43,7 @@ public class DeleteTaskCommand extends Command {
         }
 
         Task taskToDelete = lastShownList.get(targetIndex.getZeroBased());
-        for (Person person : model.getFilteredPersonList()) {
-            if (person.getEmail().equals(taskToDelete.getEmail())) {
-                person.removeTask(taskToDelete);
-            }
-        }
-
         model.deleteTask(taskToDelete);
-        model.update();
         return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
     }
 
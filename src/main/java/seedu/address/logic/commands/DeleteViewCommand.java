@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Deletes a saved view of the tasks in address book.
+ */
+public class DeleteViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "deleteView";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Deletes a view saved with "
+            + SaveViewCommand.COMMAND_WORD + ".\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " backlog";
+
+    public static final String MESSAGE_SUCCESS = "Deleted view %1$s";
+
+    private final String name;
+
+    /**
+     * @param name name of the view to delete
+     */
+    public DeleteViewCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasTaskView(name)) {
+            throw new CommandException(String.format(ViewCommand.MESSAGE_UNKNOWN_VIEW, name));
+        }
+        model.deleteTaskView(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeleteViewCommand // instanceof handles nulls
+                && name.equals(((DeleteViewCommand) other).name)); // state check
+    }
+}
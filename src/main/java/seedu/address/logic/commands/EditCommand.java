@@ -9,7 +9,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -27,7 +26,6 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
-import seedu.address.model.task.Task;
 
 
 /**
@@ -90,9 +88,7 @@ public class EditCommand extends Command {
         Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
-        List<Task> updatedTask = personToEdit.getTasks();
-        personToEdit.editPerson(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags, updatedTask);
-        return personToEdit;
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags);
     }
 
     /**
@@ -131,18 +127,9 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        for (Task task : personToEdit.getTasks()) {
-            task.setPerson(editedPerson);
-        }
-
         model.setPerson(personToEdit, editedPerson);
 
-        for (Task t : personToEdit.getTasks()) {
-            t.setPerson(editedPerson);
-        }
-
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        model.update();
 
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson));
     }
@@ -176,8 +163,6 @@ public class EditCommand extends Command {
         private Address address;
         private Set<Tag> tags;
 
-        private List<Task> tasks;
-
         public EditPersonDescriptor() {
         }
 
@@ -250,23 +235,6 @@ public class EditCommand extends Command {
             this.tags = (tags != null) ? new HashSet<>(tags) : null;
         }
 
-        /**
-         * Returns an unmodifiable task list, which throws {@code UnsupportedOperationException}
-         * if modification is attempted.
-         * Returns {@code Optional#empty()} if {@code tasks} is null.
-         */
-        public Optional<List<Task>> getTasks() {
-            return (tasks != null) ? Optional.of(Collections.unmodifiableList(tasks)) : Optional.empty();
-        }
-
-        /**
-         * Sets {@code tasks} to this object's {@code tasks}.
-         * A defensive copy of {@code tasks} is used internally.
-         */
-        public void setTasks(List<Task> tasks) {
-            this.tasks = (tasks != null) ? new ArrayList<>(tasks) : null;
-        }
-
         @Override
         public boolean equals(Object other) {
             // short circuit if same object
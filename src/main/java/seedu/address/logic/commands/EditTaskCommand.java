@@ -100,8 +100,8 @@ public class EditTaskCommand extends Command {
             }
         }
 
-        return new Task(updatedName, updatedDescription, updatedPriority, updatedCategory, updatedDeadline,
-                updatedPerson, updatedIsDone);
+        return new Task(taskToEdit.getId(), updatedName, updatedDescription, updatedPriority, updatedCategory,
+                updatedDeadline, updatedPerson, updatedIsDone);
     }
 
     /**
@@ -143,18 +143,7 @@ public class EditTaskCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_TASK);
         }
 
-        Person previouslyAssignedPerson = taskToEdit.getPerson();
-        Person newlyAssignedPerson = editedTask.getPerson();
-
-        if (previouslyAssignedPerson != null) {
-            previouslyAssignedPerson.removeTask(taskToEdit);
-        }
         model.setTask(taskToEdit, editedTask);
-        if (newlyAssignedPerson != null) {
-            newlyAssignedPerson.addTask(editedTask);
-        }
-
-        model.update();
         return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, editedTask));
     }
 
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_WITHIN;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -11,13 +12,14 @@ import seedu.address.commons.FilterInfo;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.Model;
+import seedu.address.model.task.Task;
 import seedu.address.model.task.TaskCategory;
-import seedu.address.model.task.TaskCategoryAndDeadlinePredicate;
 import seedu.address.model.task.TaskDate;
+import seedu.address.model.task.TaskDateRange;
 
 /**
  * Filters and lists all tasks in address book with category that matches the argument category
- * and / or with deadline that matches the argument date.
+ * and / or with deadline that falls in the argument date range.
  */
 public class FilterTaskCommand extends Command {
 
@@ -27,14 +29,17 @@ public class FilterTaskCommand extends Command {
             + "and displays them as a list with index numbers.\n"
             + "Parameters: "
             + "[" + PREFIX_CATEGORY + "CATEGORY (database/frontend/backend/uiux/presentation/others)] "
-            + "[" + PREFIX_DATE + "DATE (YYYY-MM-DD)]\n"
-            + "Requirement: At least one parameter to filter with must be provided.\n"
+            + "[" + PREFIX_DATE + "DATE (YYYY-MM-DD) or FROM..TO] "
+            + "[" + PREFIX_DUE_WITHIN + "DAYS]\n"
+            + "Requirement: At least one parameter to filter with must be provided, "
+            + "and at most one of " + PREFIX_DATE + " and " + PREFIX_DUE_WITHIN + ".\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_CATEGORY + "backend "
-            + PREFIX_DATE + "2022-12-12";
+            + PREFIX_DATE + "2022-12-12\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "2022-12-01..2022-12-31";
 
     private final FilterTaskDescriptor filterTaskDescriptor;
-    private final TaskCategoryAndDeadlinePredicate predicate;
     private final FilterInfo filterInfoCategory;
     private final FilterInfo filterInfoDate;
 
@@ -47,8 +52,6 @@ public class FilterTaskCommand extends Command {
                              FilterInfo filterInfoCategory, FilterInfo filterInfoDate) {
         requireNonNull(filterTaskDescriptor);
         this.filterTaskDescriptor = new FilterTaskDescriptor(filterTaskDescriptor);
-        predicate = new TaskCategoryAndDeadlinePredicate(
-                filterTaskDescriptor.getCategory(), filterTaskDescriptor.getDate());
         this.filterInfoCategory = filterInfoCategory;
         this.filterInfoDate = filterInfoDate;
     }
@@ -56,7 +59,8 @@ public class FilterTaskCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredTaskList(predicate);
+        // tests the two fields directly, as a lookup in the index sets would cost more than the test it replaces
+        model.updateFilteredTaskList(filterTaskDescriptor::matches);
 
         if (Objects.equals(filterInfoDate.getInfo(), "")) {
             return new CommandResult(String.format(
@@ -94,7 +98,7 @@ public class FilterTaskCommand extends Command {
      */
     public static class FilterTaskDescriptor {
         private TaskCategory category;
-        private TaskDate date;
+        private TaskDateRange dateRange;
 
         public FilterTaskDescriptor() {
         }
@@ -105,14 +109,14 @@ public class FilterTaskCommand extends Command {
          */
         public FilterTaskDescriptor(FilterTaskDescriptor toCopy) {
             setCategory(toCopy.category);
-            setDate(toCopy.date);
+            setDateRange(toCopy.dateRange);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(category, date);
+            return CollectionUtil.isAnyNonNull(category, dateRange);
         }
 
         public Optional<TaskCategory> getCategory() {
@@ -123,12 +127,27 @@ public class FilterTaskCommand extends Command {
             this.category = category;
         }
 
-        public Optional<TaskDate> getDate() {
-            return Optional.ofNullable(date);
+        public Optional<TaskDateRange> getDateRange() {
+            return Optional.ofNullable(dateRange);
+        }
+
+        public void setDateRange(TaskDateRange dateRange) {
+            this.dateRange = dateRange;
         }
 
+        /**
+         * Returns true if {@code task} has the category and a deadline in the date range that are set.
+         */
+        public boolean matches(Task task) {
+            return (category == null || category.equals(task.getCategory()))
+                    && (dateRange == null || dateRange.contains(task.getDeadline().getDeadline()));
+        }
+
+        /**
+         * Sets the date range to the dates on or before {@code date}, or clears it if {@code date} is null.
+         */
         public void setDate(TaskDate date) {
-            this.date = date;
+            this.dateRange = date == null ? null : TaskDateRange.onOrBefore(date);
         }
 
         @Override
@@ -145,7 +164,7 @@ public class FilterTaskCommand extends Command {
 
             // state check
             FilterTaskDescriptor f = (FilterTaskDescriptor) other;
-            return getCategory().equals(f.getCategory()) && getDate().equals(f.getDate());
+            return getCategory().equals(f.getCategory()) && getDateRange().equals(f.getDateRange());
         }
     }
 }
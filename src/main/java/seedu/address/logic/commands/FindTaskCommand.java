@@ -1,43 +1,96 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.SortInfo;
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.task.Task;
 import seedu.address.model.task.TaskContainsKeywordsPredicate;
 
 /**
  * Finds and lists all tasks in address book that have names or descriptions that contain any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive. In fuzzy mode, keywords also match words that are spelt similarly. In ranked
+ * mode, the tasks found are sorted by relevance until the next search or sort.
  */
 public class FindTaskCommand extends Command {
 
     public static final String COMMAND_WORD = "findTask";
 
+    public static final String ORDER_RELEVANCE = "relevance";
+
+    public static final String MATCH_FUZZY = "fuzzy";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks that have names or descriptions "
             + "that contain any of the specified keywords (case-insensitive) "
             + "and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " fix button";
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [" + PREFIX_ORDER + ORDER_RELEVANCE + "] ["
+            + PREFIX_MATCH + MATCH_FUZZY + "]\n"
+            + "Example: " + COMMAND_WORD + " fix button\n"
+            + "Example: " + COMMAND_WORD + " fix button " + PREFIX_ORDER + ORDER_RELEVANCE + "\n"
+            + "Example: " + COMMAND_WORD + " databse " + PREFIX_MATCH + MATCH_FUZZY;
 
     private final TaskContainsKeywordsPredicate predicate;
+    private final boolean isRanked;
+    private final boolean isFuzzy;
 
     public FindTaskCommand(TaskContainsKeywordsPredicate predicate) {
+        this(predicate, false, false);
+    }
+
+    /**
+     * @param predicate keywords to find tasks with
+     * @param isRanked  whether the tasks found are sorted by relevance to the keywords
+     * @param isFuzzy   whether the keywords also match words within a small edit distance of them
+     */
+    public FindTaskCommand(TaskContainsKeywordsPredicate predicate, boolean isRanked, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isRanked = isRanked;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredTaskList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_TASK_LISTED_OVERVIEW, model.getFilteredTaskList().size()));
+        List<String> keywords = isFuzzy ? model.findSimilarTaskWords(predicate.getKeywords()) : predicate.getKeywords();
+        // the filtered list still tests every task, but by a lookup in foundTasks rather than by matching keywords
+        Set<Task> foundTasks = model.findTasks(keywords);
+        if (!isRanked) {
+            model.updateFilteredTaskList(foundTasks::contains);
+            return new CommandResult(getFeedback(model));
+        }
+
+        // scored once, by id so that edited tasks keep their score; tasks found later are listed last
+        Map<Long, Double> scores = scoreById(model.rankTasks(keywords));
+        Comparator<Task> byRelevance = Comparator.comparingDouble(task -> scores.getOrDefault(task.getId(), 0.0));
+        model.updateFilteredTaskList(foundTasks::contains, byRelevance.reversed());
+        return new CommandResult(getFeedback(model), new SortInfo(ORDER_RELEVANCE));
+    }
+
+    private static String getFeedback(Model model) {
+        return String.format(Messages.MESSAGE_TASK_LISTED_OVERVIEW, model.getFilteredTaskList().size());
+    }
+
+    private static Map<Long, Double> scoreById(Map<Task, Double> scores) {
+        Map<Long, Double> scoresById = new HashMap<>();
+        scores.forEach((task, score) -> scoresById.put(task.getId(), score));
+        return Map.copyOf(scoresById);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindTaskCommand // instanceof handles nulls
-                && predicate.equals(((FindTaskCommand) other).predicate)); // state check
+                && predicate.equals(((FindTaskCommand) other).predicate)
+                && isRanked == ((FindTaskCommand) other).isRanked
+                && isFuzzy == ((FindTaskCommand) other).isFuzzy); // state check
     }
 }
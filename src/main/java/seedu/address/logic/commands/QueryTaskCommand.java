@@ -0,0 +1,176 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.FilterInfo;
+import seedu.address.commons.SortInfo;
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.task.SortByCategory;
+import seedu.address.model.task.SortByDeadline;
+import seedu.address.model.task.SortByPriority;
+import seedu.address.model.task.SortByStatus;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskQuery;
+
+/**
+ * Lists the tasks in address book that match a query, optionally sorted by several fields and limited to the first
+ * few tasks.
+ */
+public class QueryTaskCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the tasks that match a query "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: [CONDITION [AND/OR CONDITION]...] "
+            + "[" + PREFIX_ORDER + "FIELD[:ORDER (asc/desc)]]... "
+            + "[" + PREFIX_LIMIT + "COUNT]\n"
+            + "A CONDITION is a field condition such as " + PREFIX_CATEGORY + "backend, or a keyword. "
+            + "Conditions can be negated with NOT and grouped with parentheses, and AND is assumed between "
+            + "conditions without an operator. FIELD is one of priority, deadline, category, status and name.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CATEGORY + "backend AND "
+            + "(" + PREFIX_PRIORITY + "high OR " + PREFIX_DATE + "..2022-12-31) NOT " + PREFIX_DONE + "true "
+            + PREFIX_ORDER + "priority:desc " + PREFIX_ORDER + "deadline " + PREFIX_LIMIT + "5";
+
+    private final TaskQuery query;
+    private final List<SortOrder> sortOrders;
+    private final Integer limit;
+
+    /**
+     * @param query      condition the tasks listed must match
+     * @param sortOrders fields to sort the tasks by, from the most significant, or an empty list to keep the
+     *                   current order
+     * @param limit      maximum number of tasks to list, if any
+     */
+    public QueryTaskCommand(TaskQuery query, List<SortOrder> sortOrders, Optional<Integer> limit) {
+        requireNonNull(query);
+        requireNonNull(sortOrders);
+        requireNonNull(limit);
+        this.query = query;
+        this.sortOrders = List.copyOf(sortOrders);
+        this.limit = limit.orElse(null);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        SortInfo sortInfo = null;
+        if (!sortOrders.isEmpty()) {
+            model.updateSortingCriteria(sortOrders.stream().map(SortOrder::toComparator)
+                    .reduce(Comparator::thenComparing).get());
+            sortInfo = new SortInfo(sortOrders.stream().map(SortOrder::toString).collect(Collectors.joining(", ")));
+        }
+
+        Predicate<Task> predicate = model.queryTasks(query);
+        model.updateFilteredTaskList(predicate);
+        if (limit != null) {
+            model.limitFilteredTaskList(limit);
+        }
+
+        String filterInfo = query.toString() + (limit == null ? "" : " (first " + limit + ")");
+        return new CommandResult(String.format(Messages.MESSAGE_TASK_LISTED_OVERVIEW,
+                model.getFilteredTaskList().size()), sortInfo, new FilterInfo(filterInfo), false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryTaskCommand // instanceof handles nulls
+                && query.equals(((QueryTaskCommand) other).query)
+                && sortOrders.equals(((QueryTaskCommand) other).sortOrders)
+                && Objects.equals(limit, ((QueryTaskCommand) other).limit)); // state check
+    }
+
+    /**
+     * Fields that the tasks listed can be sorted by.
+     */
+    public enum SortField {
+        PRIORITY("priority", new SortByPriority()),
+        DEADLINE("deadline", new SortByDeadline()),
+        CATEGORY("category", new SortByCategory()),
+        STATUS("status", new SortByStatus()),
+        NAME("name", Comparator.comparing(task -> task.getName().toString()));
+
+        private final String name;
+        private final Comparator<Task> comparator;
+
+        SortField(String name, Comparator<Task> comparator) {
+            this.name = name;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Returns the field with the given name, ignoring case, if there is one.
+         */
+        public static Optional<SortField> getFromString(String fieldName) {
+            for (SortField field : values()) {
+                if (field.name.equalsIgnoreCase(fieldName)) {
+                    return Optional.of(field);
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * A field to sort the tasks listed by, in ascending or descending order.
+     */
+    public static class SortOrder {
+        private final SortField field;
+        private final boolean isDescending;
+
+        /**
+         * @param field        field to sort by
+         * @param isDescending whether the tasks are sorted in descending order of {@code field}
+         */
+        public SortOrder(SortField field, boolean isDescending) {
+            requireNonNull(field);
+            this.field = field;
+            this.isDescending = isDescending;
+        }
+
+        /**
+         * Returns the comparator that sorts tasks in this order.
+         */
+        public Comparator<Task> toComparator() {
+            return isDescending ? field.comparator.reversed() : field.comparator;
+        }
+
+        @Override
+        public String toString() {
+            return field + (isDescending ? " (descending)" : " (ascending)");
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof SortOrder // instanceof handles nulls
+                    && field == ((SortOrder) other).field
+                    && isDescending == ((SortOrder) other).isDescending); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, isDescending);
+        }
+    }
+}
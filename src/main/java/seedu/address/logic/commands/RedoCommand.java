@@ -0,0 +1,28 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Redoes the changes of the last command that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redone: %1$s";
+    public static final String MESSAGE_FAILURE = "There is no command to redo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Optional<String> redoneCommand = model.redoAddressBook();
+        if (redoneCommand.isEmpty()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, redoneCommand.get()));
+    }
+}
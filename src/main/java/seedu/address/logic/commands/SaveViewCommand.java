@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DONE;
+
+import seedu.address.model.Model;
+import seedu.address.model.task.TaskQuery;
+
+/**
+ * Saves a query as a named view of the tasks in address book, which is kept up to date as tasks change.
+ */
+public class SaveViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "saveView";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves the tasks that match a query as a view, "
+            + "which can be listed later with " + ViewCommand.COMMAND_WORD + ". "
+            + "A view with the same name is replaced.\n"
+            + "Parameters: NAME CONDITION [AND/OR CONDITION]... (conditions as in " + QueryTaskCommand.COMMAND_WORD
+            + ")\n"
+            + "Example: " + COMMAND_WORD + " backlog " + PREFIX_CATEGORY + "backend NOT " + PREFIX_DONE + "true";
+
+    public static final String MESSAGE_SUCCESS = "Saved view %1$s: %2$s";
+
+    private final String name;
+    private final String definition;
+    private final TaskQuery query;
+
+    /**
+     * @param name       name of the view
+     * @param definition text of {@code query} as entered
+     * @param query      condition the tasks in the view must match
+     */
+    public SaveViewCommand(String name, String definition, TaskQuery query) {
+        requireNonNull(name);
+        requireNonNull(definition);
+        requireNonNull(query);
+        this.name = name;
+        this.definition = definition;
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.saveTaskView(name, definition, query);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, query));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SaveViewCommand // instanceof handles nulls
+                && name.equals(((SaveViewCommand) other).name)
+                && query.equals(((SaveViewCommand) other).query)); // state check
+    }
+}
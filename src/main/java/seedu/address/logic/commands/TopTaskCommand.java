@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.FilterInfo;
+import seedu.address.commons.SortInfo;
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.task.SortByUrgency;
+import seedu.address.model.task.TaskQuery;
+
+/**
+ * Lists the most urgent tasks in address book that are not done, from the most urgent.
+ */
+public class TopTaskCommand extends Command {
+
+    public static final String COMMAND_WORD = "top";
+
+    public static final int DEFAULT_COUNT = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the most urgent tasks that are not done, "
+            + "from the earliest deadline, and from the highest priority for tasks due on the same day.\n"
+            + "Parameters: [COUNT (default " + DEFAULT_COUNT + ")]\n"
+            + "Example: " + COMMAND_WORD + " 10";
+
+    private final int count;
+
+    /**
+     * @param count maximum number of tasks to list
+     */
+    public TopTaskCommand(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredTaskList(model.queryTasks(TaskQuery.status(false)));
+        model.updateSortingCriteria(new SortByUrgency());
+        model.limitFilteredTaskList(count);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_TASK_LISTED_OVERVIEW, model.getFilteredTaskList().size()),
+                new SortInfo("urgency"), new FilterInfo(count + " most urgent tasks not done"), false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TopTaskCommand // instanceof handles nulls
+                && count == ((TopTaskCommand) other).count); // state check
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Undoes the changes of the last command that changed the address book.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undone: %1$s";
+    public static final String MESSAGE_FAILURE = "There is no command to undo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Optional<String> undoneCommand = model.undoAddressBook();
+        if (undoneCommand.isEmpty()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, undoneCommand.get()));
+    }
+}
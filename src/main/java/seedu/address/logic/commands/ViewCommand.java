@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.FilterInfo;
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.task.Task;
+
+/**
+ * Lists the tasks in a saved view, or the saved views if no view is named.
+ */
+public class ViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the tasks in a view saved with "
+            + SaveViewCommand.COMMAND_WORD + ", or the saved views if no name is given.\n"
+            + "Parameters: [NAME]\n"
+            + "Example: " + COMMAND_WORD + " backlog";
+
+    public static final String MESSAGE_UNKNOWN_VIEW = "There is no saved view named %1$s";
+    public static final String MESSAGE_NO_VIEWS = "There are no saved views.";
+    public static final String MESSAGE_LIST_VIEWS = "Saved views:";
+
+    private final String name;
+
+    /**
+     * @param name name of the view to list the tasks of, if any
+     */
+    public ViewCommand(Optional<String> name) {
+        requireNonNull(name);
+        this.name = name.orElse(null);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (name == null) {
+            return new CommandResult(listViews(model.getUserPrefs().getSavedTaskViews()));
+        }
+
+        Optional<Set<Task>> view = model.getTaskView(name);
+        if (view.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_VIEW, name));
+        }
+        // the view is kept up to date by the task list, so the filter only checks membership in it. The filtered list
+        // still tests every task once, but each test is an identity hash lookup instead of the query of the view
+        model.updateFilteredTaskList(view.get()::contains);
+        return new CommandResult(String.format(Messages.MESSAGE_TASK_LISTED_OVERVIEW,
+                model.getFilteredTaskList().size()), new FilterInfo("view " + name));
+    }
+
+    private static String listViews(Map<String, String> views) {
+        if (views.isEmpty()) {
+            return MESSAGE_NO_VIEWS;
+        }
+        StringBuilder sb = new StringBuilder(MESSAGE_LIST_VIEWS);
+        views.forEach((viewName, definition) -> sb.append("\n").append(viewName).append(": ").append(definition));
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ViewCommand // instanceof handles nulls
+                && Objects.equals(name, ((ViewCommand) other).name)); // state check
+    }
+}
@@ -16,8 +16,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_CATEGORY = new Prefix("c/");
     public static final Prefix PREFIX_DEADLINE = new Prefix("dl/");
     public static final Prefix PREFIX_DATE = new Prefix("dl/");
+    public static final Prefix PREFIX_DUE_WITHIN = new Prefix("due/");
     public static final Prefix PREFIX_PERSON = new Prefix("pe/");
     public static final Prefix PREFIX_DONE = new Prefix("do/");
     public static final Prefix PREFIX_ORDER = new Prefix("o/");
+    public static final Prefix PREFIX_MATCH = new Prefix("m/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("lim/");
 
 }
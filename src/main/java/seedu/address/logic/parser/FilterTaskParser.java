@@ -4,13 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_WITHIN;
+
+import java.time.LocalDate;
+import java.util.Optional;
 
 import seedu.address.commons.FilterInfo;
 import seedu.address.logic.commands.FilterTaskCommand;
 import seedu.address.logic.commands.FilterTaskCommand.FilterTaskDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.task.TaskCategory;
-import seedu.address.model.task.TaskDate;
+import seedu.address.model.task.TaskDateRange;
 
 /**
  * Parses input arguments and creates a new FilterTaskCommand object
@@ -24,7 +28,8 @@ public class FilterTaskParser implements Parser<FilterTaskCommand> {
      */
     public FilterTaskCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CATEGORY, PREFIX_DATE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CATEGORY, PREFIX_DATE,
+                PREFIX_DUE_WITHIN);
 
         FilterTaskDescriptor filterTaskDescriptor = new FilterTaskDescriptor();
         StringBuilder filterInfoCategory = new StringBuilder();
@@ -36,10 +41,20 @@ public class FilterTaskParser implements Parser<FilterTaskCommand> {
             filterInfoCategory.append("category ").append(category.getCategoryName().toUpperCase());
         }
 
+        if (argMultimap.getValue(PREFIX_DATE).isPresent() && argMultimap.getValue(PREFIX_DUE_WITHIN).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterTaskCommand.MESSAGE_USAGE));
+        }
+
         if (argMultimap.getValue(PREFIX_DATE).isPresent()) {
-            TaskDate date = ParserUtil.parseTaskDate(argMultimap.getValue(PREFIX_DATE).get());
-            filterTaskDescriptor.setDate(date);
-            filterInfoDate.append("deadline ").append(date).append(" or before");
+            TaskDateRange dateRange = ParserUtil.parseTaskDateRange(argMultimap.getValue(PREFIX_DATE).get());
+            filterTaskDescriptor.setDateRange(dateRange);
+            filterInfoDate.append("deadline ").append(describe(dateRange));
+        }
+
+        if (argMultimap.getValue(PREFIX_DUE_WITHIN).isPresent()) {
+            String days = argMultimap.getValue(PREFIX_DUE_WITHIN).get().trim();
+            filterTaskDescriptor.setDateRange(ParserUtil.parseDueWithin(days));
+            filterInfoDate.append("deadline within ").append(days).append(" days");
         }
 
         if (!filterTaskDescriptor.isAnyFieldEdited()) {
@@ -50,4 +65,16 @@ public class FilterTaskParser implements Parser<FilterTaskCommand> {
                 new FilterInfo(filterInfoCategory.toString()),
                 new FilterInfo(filterInfoDate.toString()));
     }
+
+    private static String describe(TaskDateRange dateRange) {
+        Optional<LocalDate> start = dateRange.getStart();
+        Optional<LocalDate> end = dateRange.getEnd();
+        if (start.isEmpty()) {
+            return end.get() + " or before";
+        } else if (end.isEmpty()) {
+            return start.get() + " or after";
+        } else {
+            return "from " + start.get() + " to " + end.get();
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
 
 import java.util.Arrays;
 
@@ -19,13 +21,32 @@ public class FindTaskCommandParser implements Parser<FindTaskCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindTaskCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ORDER, PREFIX_MATCH);
+        String trimmedArgs = argMultimap.getPreamble().trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTaskCommand.MESSAGE_USAGE));
         }
 
+        boolean isRanked = parseOption(argMultimap, PREFIX_ORDER, FindTaskCommand.ORDER_RELEVANCE);
+        boolean isFuzzy = parseOption(argMultimap, PREFIX_MATCH, FindTaskCommand.MATCH_FUZZY);
+
         String[] keywords = trimmedArgs.split("\\s+");
 
-        return new FindTaskCommand(new TaskContainsKeywordsPredicate(Arrays.asList(keywords)));
+        return new FindTaskCommand(new TaskContainsKeywordsPredicate(Arrays.asList(keywords)), isRanked, isFuzzy);
+    }
+
+    /**
+     * Returns true if {@code prefix} is given with {@code value}, ignoring case, and false if it is not given.
+     * @throws ParseException if {@code prefix} is given with any other value
+     */
+    private static boolean parseOption(ArgumentMultimap argMultimap, Prefix prefix, String value)
+            throws ParseException {
+        if (argMultimap.getValue(prefix).isEmpty()) {
+            return false;
+        }
+        if (!argMultimap.getValue(prefix).get().trim().equalsIgnoreCase(value)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTaskCommand.MESSAGE_USAGE));
+        }
+        return true;
     }
 }
@@ -25,6 +25,7 @@ import seedu.address.model.task.PriorityEnum;
 import seedu.address.model.task.TaskCategory;
 import seedu.address.model.task.TaskCategoryType;
 import seedu.address.model.task.TaskDate;
+import seedu.address.model.task.TaskDateRange;
 import seedu.address.model.task.TaskDeadline;
 import seedu.address.model.task.TaskName;
 
@@ -35,6 +36,10 @@ import seedu.address.model.task.TaskName;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index must be a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DAYS = "Number of days must be an unsigned integer.";
+    public static final String MESSAGE_INVALID_LIMIT = "Number of tasks must be a positive integer.";
+    public static final String MESSAGE_INVALID_VIEW_NAME =
+            "View names should only contain alphanumeric characters, hyphens and underscores, and not be blank.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -220,7 +225,8 @@ public class ParserUtil {
      * Parses a {@code String taskDeadline} into a {@code TaskDeadline}.
      * Leading and trailing whitespaces will be trimmed.
      *
-     * @throws ParseException if the given {@code taskDeadline} is does not follow the format YYYY-MM-DD.
+     * @throws ParseException if the given {@code taskDeadline} is does not follow the format YYYY-MM-DD, or is a date
+     *     that has passed.
      */
     public static TaskDeadline parseTaskDeadline(String taskDeadline) throws ParseException {
         requireNonNull(taskDeadline);
@@ -231,7 +237,11 @@ public class ParserUtil {
         } catch (DateTimeParseException e) {
             throw new ParseException(TaskDeadline.MESSAGE_CONSTRAINTS);
         }
-        return new TaskDeadline(localDate);
+        TaskDeadline deadline = new TaskDeadline(localDate);
+        if (deadline.isPast()) {
+            throw new ParseException(TaskDeadline.MESSAGE_PAST);
+        }
+        return deadline;
     }
 
     /**
@@ -252,6 +262,89 @@ public class ParserUtil {
         return new TaskDate(localDate);
     }
 
+    /**
+     * Parses a {@code String dateRange} into a {@code TaskDateRange}.
+     * A single date gives the dates on or before it, while FROM..TO gives the dates from FROM to TO, where either
+     * date may be left out. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code dateRange} is invalid.
+     */
+    public static TaskDateRange parseTaskDateRange(String dateRange) throws ParseException {
+        requireNonNull(dateRange);
+        String trimmedRange = dateRange.trim();
+        int separatorIndex = trimmedRange.indexOf(TaskDateRange.RANGE_SEPARATOR);
+        if (separatorIndex == -1) {
+            return TaskDateRange.onOrBefore(parseTaskDate(trimmedRange));
+        }
+
+        String start = trimmedRange.substring(0, separatorIndex).trim();
+        String end = trimmedRange.substring(separatorIndex + TaskDateRange.RANGE_SEPARATOR.length()).trim();
+        if (start.isEmpty() && end.isEmpty()) {
+            throw new ParseException(TaskDateRange.MESSAGE_CONSTRAINTS);
+        }
+        LocalDate startDate = start.isEmpty() ? null : parseTaskDate(start).getDate();
+        LocalDate endDate = end.isEmpty() ? null : parseTaskDate(end).getDate();
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new ParseException(TaskDateRange.MESSAGE_CONSTRAINTS);
+        }
+        return new TaskDateRange(startDate, endDate);
+    }
+
+    /**
+     * Parses a {@code String days} into the {@code TaskDateRange} from today to that many days after it, as of the
+     * day the range is checked. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code days} is not an unsigned integer.
+     */
+    public static TaskDateRange parseDueWithin(String days) throws ParseException {
+        requireNonNull(days);
+        String trimmedDays = days.trim();
+        if (!trimmedDays.matches("\\d+")) {
+            throw new ParseException(MESSAGE_INVALID_DAYS);
+        }
+        try {
+            return TaskDateRange.within(Integer.parseInt(trimmedDays));
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_DAYS);
+        }
+    }
+
+    /**
+     * Parses {@code limit} into the maximum number of tasks to list. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code limit} is not a positive integer.
+     */
+    public static int parseLimit(String limit) throws ParseException {
+        requireNonNull(limit);
+        String trimmedLimit = limit.trim();
+        if (!trimmedLimit.matches("\\d+")) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT);
+        }
+        try {
+            int parsedLimit = Integer.parseInt(trimmedLimit);
+            if (parsedLimit == 0) {
+                throw new ParseException(MESSAGE_INVALID_LIMIT);
+            }
+            return parsedLimit;
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT);
+        }
+    }
+
+    /**
+     * Parses {@code viewName} into the name of a saved task view. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code viewName} is invalid.
+     */
+    public static String parseViewName(String viewName) throws ParseException {
+        requireNonNull(viewName);
+        String trimmedViewName = viewName.trim();
+        if (!trimmedViewName.matches("[\\p{Alnum}_-]+")) {
+            throw new ParseException(MESSAGE_INVALID_VIEW_NAME);
+        }
+        return trimmedViewName;
+    }
+
     /**
      * Parses a {@code String taskDone} into a {@code Boolean} representing whether the task is completed.
      *
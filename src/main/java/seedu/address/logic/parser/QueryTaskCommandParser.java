@@ -0,0 +1,198 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_WITHIN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.QueryTaskCommand;
+import seedu.address.logic.commands.QueryTaskCommand.SortField;
+import seedu.address.logic.commands.QueryTaskCommand.SortOrder;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Email;
+import seedu.address.model.task.TaskQuery;
+
+/**
+ * Parses input arguments and creates a new QueryTaskCommand object.
+ * <p>
+ * The query is parsed with the grammar below, where AND binds more tightly than OR, and AND is assumed between
+ * conditions without an operator:
+ * <pre>
+ *     query     := and (OR and)*
+ *     and       := unary ([AND] unary)*
+ *     unary     := NOT unary | ( query ) | condition
+ *     condition := c/CATEGORY | pr/PRIORITY | do/DONE | pe/EMAIL | dl/DEADLINE or FROM..TO | due/DAYS | KEYWORD
+ * </pre>
+ */
+public class QueryTaskCommandParser implements Parser<QueryTaskCommand> {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final String ORDER_SEPARATOR = ":";
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("\\(|\\)|[^\\s()]+");
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryTaskCommand
+     * and returns a QueryTaskCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryTaskCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ORDER, PREFIX_LIMIT);
+        String preamble = argMultimap.getPreamble().trim();
+        if (preamble.isEmpty() && argMultimap.getValue(PREFIX_ORDER).isEmpty()
+                && argMultimap.getValue(PREFIX_LIMIT).isEmpty()) {
+            throw invalidFormat();
+        }
+
+        TaskQuery query = preamble.isEmpty() ? TaskQuery.all() : parseQuery(preamble);
+
+        List<SortOrder> sortOrders = new ArrayList<>();
+        for (String order : argMultimap.getAllValues(PREFIX_ORDER)) {
+            sortOrders.add(parseSortOrder(order));
+        }
+
+        Optional<Integer> limit = Optional.empty();
+        if (argMultimap.getValue(PREFIX_LIMIT).isPresent()) {
+            limit = Optional.of(ParserUtil.parseLimit(argMultimap.getValue(PREFIX_LIMIT).get()));
+        }
+
+        return new QueryTaskCommand(query, sortOrders, limit);
+    }
+
+    /**
+     * Parses the conditions of a query, without any sort order or limit, such as the definition of a saved view.
+     * @throws ParseException if {@code expression} is not a valid query
+     */
+    public TaskQuery parseQuery(String expression) throws ParseException {
+        requireNonNull(expression);
+        tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_FORMAT.matcher(expression);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        position = 0;
+
+        TaskQuery query = parseOr();
+        if (position < tokens.size()) {
+            throw invalidFormat();
+        }
+        return query;
+    }
+
+    private TaskQuery parseOr() throws ParseException {
+        List<TaskQuery> queries = new ArrayList<>();
+        queries.add(parseAnd());
+        while (isNext(OR)) {
+            position++;
+            queries.add(parseAnd());
+        }
+        return TaskQuery.or(queries);
+    }
+
+    private TaskQuery parseAnd() throws ParseException {
+        List<TaskQuery> queries = new ArrayList<>();
+        queries.add(parseUnary());
+        while (position < tokens.size() && !isNext(OR) && !isNext(CLOSE)) {
+            if (isNext(AND)) {
+                position++;
+            }
+            queries.add(parseUnary());
+        }
+        return TaskQuery.and(queries);
+    }
+
+    private TaskQuery parseUnary() throws ParseException {
+        if (position >= tokens.size()) {
+            throw invalidFormat();
+        }
+
+        String token = tokens.get(position++);
+        switch (token) {
+        case NOT:
+            return TaskQuery.not(parseUnary());
+        case OPEN:
+            TaskQuery query = parseOr();
+            if (!isNext(CLOSE)) {
+                throw invalidFormat();
+            }
+            position++;
+            return query;
+        case AND:
+        case OR:
+        case CLOSE:
+            throw invalidFormat();
+        default:
+            return parseCondition(token);
+        }
+    }
+
+    private boolean isNext(String token) {
+        return position < tokens.size() && tokens.get(position).equals(token);
+    }
+
+    /**
+     * Parses a condition on a single field, or a keyword if {@code token} does not start with a field prefix.
+     */
+    private static TaskQuery parseCondition(String token) throws ParseException {
+        if (token.startsWith(PREFIX_CATEGORY.getPrefix())) {
+            return TaskQuery.category(ParserUtil.parseTaskCategory(valueOf(token, PREFIX_CATEGORY)));
+        } else if (token.startsWith(PREFIX_PRIORITY.getPrefix())) {
+            return TaskQuery.priority(ParserUtil.parsePriority(valueOf(token, PREFIX_PRIORITY)));
+        } else if (token.startsWith(PREFIX_DONE.getPrefix())) {
+            return TaskQuery.status(ParserUtil.parseTaskIsDone(valueOf(token, PREFIX_DONE)));
+        } else if (token.startsWith(PREFIX_PERSON.getPrefix())) {
+            String email = valueOf(token, PREFIX_PERSON);
+            return TaskQuery.assignee(email.equalsIgnoreCase("none")
+                    ? Email.getNoEmailInstance()
+                    : ParserUtil.parseEmail(email));
+        } else if (token.startsWith(PREFIX_DATE.getPrefix())) {
+            return TaskQuery.deadline(ParserUtil.parseTaskDateRange(valueOf(token, PREFIX_DATE)));
+        } else if (token.startsWith(PREFIX_DUE_WITHIN.getPrefix())) {
+            return TaskQuery.deadline(ParserUtil.parseDueWithin(valueOf(token, PREFIX_DUE_WITHIN)));
+        } else {
+            return TaskQuery.keyword(token);
+        }
+    }
+
+    private static String valueOf(String token, Prefix prefix) {
+        return token.substring(prefix.getPrefix().length());
+    }
+
+    private static SortOrder parseSortOrder(String order) throws ParseException {
+        String[] parts = order.trim().split(ORDER_SEPARATOR, 2);
+        Optional<SortField> field = SortField.getFromString(parts[0].trim());
+        if (field.isEmpty()) {
+            throw invalidFormat();
+        }
+        if (parts.length == 1 || parts[1].trim().equalsIgnoreCase("asc")) {
+            return new SortOrder(field.get(), false);
+        } else if (parts[1].trim().equalsIgnoreCase("desc")) {
+            return new SortOrder(field.get(), true);
+        } else {
+            throw invalidFormat();
+        }
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryTaskCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SaveViewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.task.TaskQuery;
+
+/**
+ * Parses input arguments and creates a new SaveViewCommand object.
+ */
+public class SaveViewCommandParser implements Parser<SaveViewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SaveViewCommand
+     * and returns a SaveViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SaveViewCommand parse(String args) throws ParseException {
+        String[] nameAndDefinition = args.trim().split("\\s+", 2);
+        if (nameAndDefinition.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE));
+        }
+
+        String name = ParserUtil.parseViewName(nameAndDefinition[0]);
+        String definition = nameAndDefinition[1].trim();
+        TaskQuery query = new QueryTaskCommandParser().parseQuery(definition);
+        return new SaveViewCommand(name, definition, query);
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.TopTaskCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new TopTaskCommand object.
+ */
+public class TopTaskCommandParser implements Parser<TopTaskCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TopTaskCommand
+     * and returns a TopTaskCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TopTaskCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new TopTaskCommand(TopTaskCommand.DEFAULT_COUNT);
+        }
+        return new TopTaskCommand(ParserUtil.parseLimit(trimmedArgs));
+    }
+}
@@ -3,7 +3,12 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Email;
@@ -12,6 +17,7 @@ import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.TaskList;
+import seedu.address.model.task.TaskQuery;
 
 
 /**
@@ -23,6 +29,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final TaskList tasks;
 
+    /** Incremented on every change to the persons or tasks, including changes to them made in place. */
+    private long version;
+
     {
         persons = new UniquePersonList();
         tasks = new TaskList();
@@ -47,10 +56,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
+    /**
+     * Replaces the contents of the task list with {@code tasks}.
+     * {@code tasks} must not contain duplicate tasks.
+     */
     public void setTasks(List<Task> tasks) {
         this.tasks.setTasks(tasks);
+        version++;
     }
 
     /**
@@ -79,15 +94,25 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Adds a person to the address book.
+     * Returns the person with the given {@code id}, if there is one in the address book.
+     */
+    public Optional<Person> getPersonById(long id) {
+        return persons.getPersonById(id);
+    }
+
+    /**
+     * Adds a person to the address book, and assigns to it the tasks assigned to its email.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        reassignTasks(p, p);
+        version++;
     }
 
     /**
-     * Replaces the given person {@code target} in the list with {@code editedPerson}.
+     * Replaces the given person {@code target} in the list with {@code editedPerson}, and assigns the tasks of
+     * {@code target} to {@code editedPerson}. {@code editedPerson} should be created with the id of {@code target}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
@@ -95,14 +120,63 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        reassignTasks(target, editedPerson);
+        version++;
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Notifies observers of the person list that the tasks assigned to {@code person} have changed, so that its entry
+     * is redrawn. {@code person} must exist in the address book.
+     */
+    public void refreshPerson(Person person) {
+        persons.refresh(person);
+        version++;
+    }
+
+    /**
+     * Removes {@code key} from this {@code AddressBook}, and unassigns the tasks assigned to it.
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        reassignTasks(key, null);
+        version++;
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks assigned to {@code person}.
+     *
+     * @see TaskList#filter(Person)
+     */
+    public Set<Task> getTasksAssignedTo(Person person) {
+        return tasks.filter(person);
+    }
+
+    /**
+     * Assigns the tasks assigned to the email of {@code from} to {@code to}, or unassigns them if {@code to} is null.
+     * The tasks are looked up in the assignee index of the task list, so only those tasks are touched.
+     */
+    private void reassignTasks(Person from, Person to) {
+        Set<Task> assignedTasks = tasks.filter(from);
+        Map<Task, Task> reassignedTasks = new IdentityHashMap<>();
+        for (Task task : assignedTasks) {
+            if (task.getPerson() != to) {
+                reassignedTasks.put(task, task.withPerson(to));
+            }
+        }
+        if (!reassignedTasks.isEmpty()) {
+            tasks.editAll(reassignedTasks);
+        }
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the persons with a name word, email or phone number starting with any of
+     * {@code prefixes}.
+     *
+     * @see UniquePersonList#findByPrefixes(List)
+     */
+    public Set<Person> findPersons(List<String> prefixes) {
+        return persons.findByPrefixes(prefixes);
     }
 
     //// task-level operations
@@ -121,10 +195,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTask(Task task) {
         tasks.add(task);
+        version++;
     }
 
     /**
      * Replaces the given task {@code target} in the list with {@code editedTask}.
+     * {@code editedTask} should be created with the id of {@code target}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedTask} must not be the same as another existing task in the address book.
      */
@@ -132,6 +208,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedTask);
 
         tasks.edit(target, editedTask);
+        version++;
+    }
+
+    /**
+     * Returns the task with the given {@code id}, if there is one in the address book.
+     */
+    public Optional<Task> getTaskById(long id) {
+        return tasks.getById(id);
     }
 
     /**
@@ -140,10 +224,101 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeTask(Task key) {
         tasks.delete(key);
+        version++;
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks with any of {@code keywords} in their name or description.
+     *
+     * @see TaskList#findByKeywords(List)
+     */
+    public Set<Task> findTasks(List<String> keywords) {
+        return tasks.findByKeywords(keywords);
+    }
+
+    /**
+     * Returns a live predicate that tests whether a task matches {@code query}.
+     *
+     * @see TaskList#query(TaskQuery)
+     */
+    public Predicate<Task> queryTasks(TaskQuery query) {
+        return tasks.query(query);
+    }
+
+    /**
+     * Materializes the tasks matching {@code predicate} as the task view {@code name}, kept up to date as tasks change.
+     *
+     * @see TaskList#materializeView(String, Predicate)
+     */
+    public Set<Task> materializeTaskView(String name, Predicate<Task> predicate) {
+        return tasks.materializeView(name, predicate);
+    }
+
+    /**
+     * Stops maintaining the task view {@code name}, if there is one.
+     */
+    public void dematerializeTaskView(String name) {
+        tasks.dematerializeView(name);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks in the task view {@code name}, if it has been materialized.
+     */
+    public Optional<Set<Task>> getTaskView(String name) {
+        return tasks.getView(name);
+    }
+
+    /**
+     * Returns the words in the names and descriptions of the tasks that are spelt like any of {@code keywords}.
+     *
+     * @see TaskList#findSimilarWords(List)
+     */
+    public List<String> findSimilarTaskWords(List<String> keywords) {
+        return tasks.findSimilarWords(keywords);
+    }
+
+    /**
+     * Returns the relevance of the tasks with any of {@code keywords} in their name or description.
+     *
+     * @see TaskList#rankByKeywords(List)
+     */
+    public Map<Task, Double> rankTasks(List<String> keywords) {
+        return tasks.rankByKeywords(keywords);
+    }
+
+    //// replay operations
+
+    /**
+     * Replaces {@code removed} at position {@code from} of the persons with {@code added}, without reassigning any
+     * tasks, such as to replay a recorded {@link AddressBookChange}.
+     *
+     * @see UniquePersonList#replace(int, List, List)
+     */
+    public void replacePersons(int from, List<Person> removed, List<Person> added) {
+        persons.replace(from, removed, added);
+        version++;
+    }
+
+    /**
+     * Replaces {@code removed} at position {@code from} of the tasks with {@code added}, such as to replay a recorded
+     * {@link AddressBookChange}.
+     *
+     * @see TaskList#replace(int, List, List)
+     */
+    public void replaceTasks(int from, List<Task> removed, List<Task> added) {
+        tasks.replace(from, removed, added);
+        version++;
     }
 
     //// util methods
 
+    /**
+     * Returns a number that changes whenever the data in this address book changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return persons.asUnmodifiableObservableList().size() + " persons";
@@ -160,6 +335,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tasks.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns a snapshot of this address book in constant time. The persons and tasks are only copied by the next
+     * change to this address book, once for any number of snapshots taken before it.
+     */
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), tasks.snapshot());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -172,17 +356,4 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
-
-    /**
-     * A method that forces every person and task to update their values. Used after the addressBook is initalized.
-     */
-    public void updatePersonTasks() {
-        for (Person person : persons) {
-            for (Task task : tasks) {
-                if (person.equals(task.getPerson())) {
-                    person.addTask(task);
-                }
-            }
-        }
-    }
 }
@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.exceptions.TaskNotFoundException;
+
+/**
+ * A single change to the persons or tasks of an address book: the elements removed from a position in the list, and
+ * the elements added there in their place. Guarantees: immutable.
+ */
+public class AddressBookChange {
+
+    /**
+     * The list of an address book that a change is made to.
+     */
+    public enum Target {
+        PERSONS, TASKS
+    }
+
+    private final Target target;
+    private final int index;
+    private final List<?> removed;
+    private final List<?> added;
+
+    private AddressBookChange(Target target, int index, List<?> removed, List<?> added) {
+        requireNonNull(target);
+        checkArgument(index >= 0, "Index cannot be negative");
+        this.target = target;
+        this.index = index;
+        this.removed = List.copyOf(removed);
+        this.added = List.copyOf(added);
+    }
+
+    /**
+     * Returns a change that replaces {@code removed} at {@code index} of the persons with {@code added}.
+     */
+    public static AddressBookChange ofPersons(int index, List<? extends Person> removed,
+                                              List<? extends Person> added) {
+        return new AddressBookChange(Target.PERSONS, index, removed, added);
+    }
+
+    /**
+     * Returns a change that replaces {@code removed} at {@code index} of the tasks with {@code added}.
+     */
+    public static AddressBookChange ofTasks(int index, List<? extends Task> removed, List<? extends Task> added) {
+        return new AddressBookChange(Target.TASKS, index, removed, added);
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the persons or tasks removed by this change, depending on its target.
+     */
+    public List<?> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the persons or tasks added by this change, depending on its target.
+     */
+    public List<?> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the change that undoes this change.
+     */
+    public AddressBookChange invert() {
+        return new AddressBookChange(target, index, added, removed);
+    }
+
+    /**
+     * Makes this change to {@code addressBook}, which must be in the state this change was recorded from.
+     *
+     * @throws PersonNotFoundException if the persons this change removes are not at its index.
+     * @throws TaskNotFoundException if the tasks this change removes are not at its index.
+     */
+    @SuppressWarnings("unchecked")
+    public void applyTo(AddressBook addressBook) {
+        if (target == Target.PERSONS) {
+            addressBook.replacePersons(index, (List<Person>) removed, (List<Person>) added);
+        } else {
+            addressBook.replaceTasks(index, (List<Task>) removed, (List<Task>) added);
+        }
+    }
+
+    /**
+     * Returns the number of persons and tasks this change refers to.
+     */
+    public int size() {
+        return removed.size() + added.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookChange // instanceof handles nulls
+                && target == ((AddressBookChange) other).target
+                && index == ((AddressBookChange) other).index
+                && removed.equals(((AddressBookChange) other).removed)
+                && added.equals(((AddressBookChange) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(target, index, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return target + " at " + index + ": " + removed + " -> " + added;
+    }
+}
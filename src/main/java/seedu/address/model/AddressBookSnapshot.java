@@ -0,0 +1,46 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * The persons and tasks in an address book at the time it was taken, which never change afterwards.
+ * Since persons and tasks are immutable too, a snapshot can be read on any thread, such as to write it to a file,
+ * while the address book keeps changing.
+ *
+ * @see ReadOnlyAddressBook#getSnapshot()
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private final ObservableList<Person> persons;
+    private final ObservableList<Task> tasks;
+
+    /**
+     * Creates a snapshot of {@code persons} and {@code tasks}, which must not change afterwards.
+     */
+    public AddressBookSnapshot(List<Person> persons, List<Task> tasks) {
+        requireAllNonNull(persons, tasks);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.tasks = FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks;
+    }
+
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return this;
+    }
+}
@@ -2,6 +2,10 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,6 +14,8 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskQuery;
+import seedu.address.model.util.LimitedList;
 
 /**
  * The API of the Model component.
@@ -56,11 +62,48 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Groups the changes made to the address book since the last commit, so that they can be undone together.
+     * Changes that were undone can no longer be redone afterwards.
+     *
+     * @param description describes the command that made the changes
+     */
+    void commitAddressBook(String description);
+
+    /**
+     * Returns true if there is a committed change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Undoes the last committed change to the address book that has not been undone.
+     *
+     * @return the description of the change undone, or an empty {@code Optional} if there is none
+     */
+    Optional<String> undoAddressBook();
+
+    /**
+     * Redoes the last change to the address book that was undone.
+     *
+     * @return the description of the change redone, or an empty {@code Optional} if there is none
+     */
+    Optional<String> redoAddressBook();
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns a number that changes whenever the address book data changes.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -77,7 +120,7 @@ public interface Model {
     Person getPersonByEmail(Email email) throws PersonNotFoundException;
 
     /**
-     * Deletes the given person.
+     * Deletes the given person, and unassigns the tasks assigned to it.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
@@ -89,12 +132,37 @@ public interface Model {
     void addPerson(Person person);
 
     /**
-     * Replaces the given person {@code target} with {@code editedPerson}.
+     * Replaces the given person {@code target} with {@code editedPerson}, and assigns the tasks of {@code target} to
+     * {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Notifies the person list that the tasks assigned to {@code person} have changed, so that only its entry is
+     * redrawn.
+     * {@code person} must exist in the address book.
+     */
+    void refreshPerson(Person person);
+
+    /**
+     * Returns a live, unmodifiable view of the persons in the address book with a word of their name, their email or
+     * their phone number starting with any of {@code prefixes}, ignoring case.
+     */
+    Set<Person> findPersons(List<String> prefixes);
+
+    /**
+     * Returns a live, unmodifiable view of the tasks assigned to {@code person}, looked up by email in an index that
+     * the address book keeps up to date as tasks and persons are added, edited and deleted.
+     */
+    Set<Task> getTasksAssignedTo(Person person);
+
+    /**
+     * Returns the task with the given {@code id}, if there is one in the address book.
+     */
+    Optional<Task> getTaskById(long id);
+
     /**
      * Returns true if a task with the same identity as {@code task} exists in the address book.
      */
@@ -119,7 +187,58 @@ public interface Model {
      */
     void setTask(Task target, Task editedTask);
 
-    void update();
+    /**
+     * Returns a live predicate that tests whether a task in the address book matches {@code query}, planned against
+     * the indexes of the tasks so that only the tasks of its most selective indexed condition are tested in full.
+     * The predicate can be passed to {@link #updateFilteredTaskList(Predicate)}.
+     */
+    Predicate<Task> queryTasks(TaskQuery query);
+
+    /**
+     * Saves the task view {@code name} of the tasks matching {@code query} in the user prefs, replacing any view with
+     * that name, and materializes it. The tasks in the view are updated as each task is added, edited or deleted,
+     * so listing the view does not evaluate {@code query} again.
+     *
+     * @param name       name of the view
+     * @param definition text of {@code query} as entered by the user, saved to restore the view later
+     * @param query      condition the tasks in the view must match
+     */
+    void saveTaskView(String name, String definition, TaskQuery query);
+
+    /**
+     * Returns true if a task view with {@code name} is saved in the user prefs.
+     */
+    boolean hasTaskView(String name);
+
+    /**
+     * Removes the task view {@code name} from the user prefs and stops maintaining it.
+     * The view must be saved.
+     */
+    void deleteTaskView(String name);
+
+    /**
+     * Returns a live, unmodifiable view of the tasks in the task view {@code name}, if it has been materialized.
+     */
+    Optional<Set<Task>> getTaskView(String name);
+
+    /**
+     * Returns a live, unmodifiable view of the tasks in the address book with any of {@code keywords} as a word of
+     * their name or description, ignoring case. The tasks are looked up in an index of the words instead of scanned.
+     */
+    Set<Task> findTasks(List<String> keywords);
+
+    /**
+     * Returns the words in the names and descriptions of the tasks in the address book that are within a small edit
+     * distance of any of {@code keywords}, in lower case. Passing them to {@link #findTasks(List)} finds the tasks
+     * for misspelt keywords.
+     */
+    List<String> findSimilarTaskWords(List<String> keywords);
+
+    /**
+     * Returns the relevance scores of the tasks found by {@link #findTasks(List)} for {@code keywords}, in a map that
+     * compares tasks by identity. Higher scores are more relevant.
+     */
+    Map<Task, Double> rankTasks(List<String> keywords);
 
     /**
      * Returns an unmodifiable view of the filtered person list
@@ -139,14 +258,34 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * Updates the filter of the filtered task list to filter by the given {@code predicate}.
+     * Updates the filter of the filtered task list to filter by the given {@code predicate}, and removes any limit
+     * on the number of tasks listed.
      *
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
 
     /**
-     * Updates the sort order of the filtered task list using the given {@code comparator}.
+     * Updates the filter of the filtered task list to filter by the given {@code predicate}, removes any limit on the
+     * number of tasks listed, and sorts the tasks by {@code searchOrder} until the filter or sort order is next
+     * updated. The sort order from {@link #updateSortingCriteria(Comparator)} is restored after that.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code searchOrder} is null.
+     */
+    void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> searchOrder);
+
+    /**
+     * Lists only the first {@code limit} tasks of the filtered and sorted task list, or all of them if {@code limit}
+     * is {@link LimitedList#NO_LIMIT}, until the filter is next updated. The tasks listed are kept up to date, so a
+     * task that is removed or no longer comes first is replaced by the next task in order.
+     *
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     */
+    void limitFilteredTaskList(int limit);
+
+    /**
+     * Updates the sort order of the filtered task list using the given {@code comparator}, replacing the sort order
+     * of the current search, if any.
      *
      * @throws NullPointerException if {@code comparator} is null.
      */
@@ -8,9 +8,14 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -20,6 +25,8 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskQuery;
+import seedu.address.model.util.LimitedList;
 
 
 /**
@@ -33,12 +40,29 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Task> filteredTasks;
     private final SortedList<Task> sortedTasks;
+    private final LimitedList<Task> limitedTasks;
+    /** The sort order of the tasks outside of searches with their own sort order, or null if they are unsorted. */
+    private Comparator<Task> sortingCriteria;
+    private final UndoHistory undoHistory;
 
+    /** True while changes are being undone or redone, so they are not recorded as new changes. */
+    private boolean isReplaying;
+    /** Tasks changed while undoing or redoing, whose assignees are redrawn afterwards. */
+    private final List<Task> replayedTasks = new ArrayList<>();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Commands that no longer fit in the undo memory budget cannot be undone.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, null);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Commands that no longer fit in the undo memory budget are moved to {@code undoSpill}, if it is not null.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, UndoHistory.Spill undoSpill) {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
@@ -46,15 +70,24 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        sortedTasks = new SortedList<>(this.addressBook.getTaskList());
-        filteredTasks = new FilteredList<>(sortedTasks);
-        for (Person person : this.addressBook.getPersonList()) {
-            for (Task task : this.addressBook.getTaskList()) {
-                if (person.getEmail().equals(task.getEmail())) {
-                    person.addTask(task);
+        // tasks are filtered before they are sorted, so only the tasks shown are sorted
+        filteredTasks = new FilteredList<>(this.addressBook.getTaskList());
+        sortedTasks = new SortedList<>(filteredTasks);
+        limitedTasks = new LimitedList<>(sortedTasks);
+
+        undoHistory = new UndoHistory(userPrefs.getUndoMemoryBudget(), undoSpill);
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                this.<Person>record(change, AddressBookChange::ofPersons));
+        this.addressBook.getTaskList().addListener((ListChangeListener<Task>) change -> {
+            if (isReplaying) {
+                while (change.next()) {
+                    replayedTasks.addAll(change.getRemoved());
+                    replayedTasks.addAll(change.getAddedSubList());
                 }
+                return;
             }
-        }
+            this.<Task>record(change, AddressBookChange::ofTasks);
+        });
     }
 
     public ModelManager() {
@@ -108,6 +141,90 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void commitAddressBook(String description) {
+        requireNonNull(description);
+        undoHistory.commit(description);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return undoHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return undoHistory.canRedo();
+    }
+
+    @Override
+    public Optional<String> undoAddressBook() {
+        return replay(undoHistory::undo);
+    }
+
+    @Override
+    public Optional<String> redoAddressBook() {
+        return replay(undoHistory::redo);
+    }
+
+    /**
+     * Undoes or redoes changes to the address book with {@code replayer} without recording them, then redraws the
+     * persons whose assigned tasks were changed.
+     */
+    private Optional<String> replay(Function<AddressBook, Optional<String>> replayer) {
+        isReplaying = true;
+        Optional<String> description;
+        try {
+            description = replayer.apply(addressBook);
+        } finally {
+            isReplaying = false;
+        }
+
+        List<Task> changedTasks = new ArrayList<>(replayedTasks);
+        replayedTasks.clear();
+        changedTasks.forEach(this::refreshAssignee);
+        return description;
+    }
+
+    /**
+     * Records the changes in {@code change} to the undo history, except for elements that are only redrawn.
+     */
+    private <E> void record(ListChangeListener.Change<? extends E> change, ChangeFactory<E> factory) {
+        while (change.next()) {
+            if (isReplaying || isRedrawn(change)) {
+                continue;
+            }
+            undoHistory.record(factory.create(change.getFrom(), change.getRemoved(), change.getAddedSubList()));
+        }
+    }
+
+    private static boolean isRedrawn(ListChangeListener.Change<?> change) {
+        if (change.getRemovedSize() != change.getAddedSize()) {
+            return false;
+        }
+        List<?> removed = change.getRemoved();
+        List<?> added = change.getAddedSubList();
+        for (int i = 0; i < removed.size(); i++) {
+            if (removed.get(i) != added.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates an {@code AddressBookChange} of elements of type {@code E}.
+     */
+    @FunctionalInterface
+    private interface ChangeFactory<E> {
+        AddressBookChange create(int index, List<? extends E> removed, List<? extends E> added);
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -148,6 +265,28 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void refreshPerson(Person person) {
+        requireNonNull(person);
+        addressBook.refreshPerson(person);
+    }
+
+    @Override
+    public Set<Person> findPersons(List<String> prefixes) {
+        return addressBook.findPersons(prefixes);
+    }
+
+    @Override
+    public Set<Task> getTasksAssignedTo(Person person) {
+        requireNonNull(person);
+        return addressBook.getTasksAssignedTo(person);
+    }
+
+    @Override
+    public Optional<Task> getTaskById(long id) {
+        return addressBook.getTaskById(id);
+    }
+
     @Override
     public boolean hasTask(Task task) {
         requireNonNull(task);
@@ -157,25 +296,84 @@ public class ModelManager implements Model {
     @Override
     public void deleteTask(Task target) {
         addressBook.removeTask(target);
+        refreshAssignee(target);
     }
 
     @Override
     public void addTask(Task task) {
         addressBook.addTask(task);
+        refreshAssignee(task);
     }
 
     @Override
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
         addressBook.setTask(target, editedTask);
+        refreshAssignee(target);
+        if (!target.getEmail().equals(editedTask.getEmail())) {
+            refreshAssignee(editedTask);
+        }
+    }
+
+    /**
+     * Signals a change to the person that {@code task} is assigned to, if any, as the tasks assigned to a person are
+     * shown with the person.
+     */
+    private void refreshAssignee(Task task) {
+        try {
+            Person assignee = addressBook.getPersonByEmail(task.getEmail());
+            if (assignee != null) {
+                addressBook.refreshPerson(assignee);
+            }
+        } catch (PersonNotFoundException e) {
+            // the task is assigned to a person who is no longer in the address book
+        }
     }
 
     @Override
-    public void update() {
-        List<Person> newPersonList = new ArrayList<>(addressBook.getPersonList());
-        List<Task> newTaskList = new ArrayList<>(addressBook.getTaskList());
-        addressBook.setPersons(newPersonList);
-        addressBook.setTasks(newTaskList);
+    public Predicate<Task> queryTasks(TaskQuery query) {
+        return addressBook.queryTasks(query);
+    }
+
+    @Override
+    public void saveTaskView(String name, String definition, TaskQuery query) {
+        requireAllNonNull(name, definition, query);
+        userPrefs.putSavedTaskView(name, definition);
+        addressBook.materializeTaskView(name, query);
+    }
+
+    @Override
+    public boolean hasTaskView(String name) {
+        requireNonNull(name);
+        return userPrefs.getSavedTaskViews().containsKey(name);
+    }
+
+    @Override
+    public void deleteTaskView(String name) {
+        requireNonNull(name);
+        userPrefs.removeSavedTaskView(name);
+        addressBook.dematerializeTaskView(name);
+    }
+
+    @Override
+    public Optional<Set<Task>> getTaskView(String name) {
+        requireNonNull(name);
+        return addressBook.getTaskView(name);
+    }
+
+    @Override
+    public Set<Task> findTasks(List<String> keywords) {
+        return addressBook.findTasks(keywords);
+    }
+
+    @Override
+    public List<String> findSimilarTaskWords(List<String> keywords) {
+        return addressBook.findSimilarTaskWords(keywords);
+    }
+
+    @Override
+    public Map<Task, Double> rankTasks(List<String> keywords) {
+        return addressBook.rankTasks(keywords);
     }
 
 
@@ -204,19 +402,35 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Task> getFilteredTaskList() {
-        return filteredTasks;
+        return limitedTasks;
     }
 
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
+        limitedTasks.setLimit(LimitedList.NO_LIMIT);
+        filteredTasks.setPredicate(predicate);
+        sortedTasks.setComparator(sortingCriteria);
+    }
+
+    @Override
+    public void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> searchOrder) {
+        requireAllNonNull(predicate, searchOrder);
+        limitedTasks.setLimit(LimitedList.NO_LIMIT);
         filteredTasks.setPredicate(predicate);
+        sortedTasks.setComparator(searchOrder);
+    }
+
+    @Override
+    public void limitFilteredTaskList(int limit) {
+        limitedTasks.setLimit(limit);
     }
 
 
     @Override
     public void updateSortingCriteria(Comparator<Task> comparator) {
         requireNonNull(comparator);
+        sortingCriteria = comparator;
         sortedTasks.setComparator(comparator);
     }
 
@@ -235,6 +449,6 @@ public class ModelManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook) && userPrefs.equals(other.userPrefs)
-                && filteredPersons.equals(other.filteredPersons) && filteredTasks.equals(other.filteredTasks);
+                && filteredPersons.equals(other.filteredPersons) && limitedTasks.equals(other.limitedTasks);
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.task.Task;
@@ -21,4 +23,12 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate tasks.
      */
     ObservableList<Task> getTaskList();
+
+    /**
+     * Returns the persons and tasks currently in this address book, as a read-only address book that does not change
+     * when this one does. By default, the persons and tasks are copied.
+     */
+    default ReadOnlyAddressBook getSnapshot() {
+        return new AddressBookSnapshot(List.copyOf(getPersonList()), List.copyOf(getTaskList()));
+    }
 }
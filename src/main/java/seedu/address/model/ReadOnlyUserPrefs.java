@@ -1,7 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +15,18 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    boolean isAddressBookJournaled();
+
+    /**
+     * Returns the query definitions of the saved task views, by view name.
+     */
+    Map<String, String> getSavedTaskViews();
+
+    /**
+     * Returns the estimated number of bytes of undo history to keep in memory before older commands are moved to disk.
+     */
+    long getUndoMemoryBudget();
+
 }
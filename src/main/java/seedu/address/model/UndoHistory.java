@@ -0,0 +1,292 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.task.exceptions.DuplicateTaskException;
+import seedu.address.model.task.exceptions.TaskNotFoundException;
+
+/**
+ * The changes made to an address book by each command, so that they can be undone and redone.
+ * <p>
+ * The changes are recorded as they are made, and grouped into an {@link Entry} per command when the command is
+ * committed. Undoing a command makes the inverse of each of its changes in reverse order, so it costs as much as the
+ * changes themselves rather than a copy of the address book.
+ * <p>
+ * The entries that can be undone are kept in memory up to an estimated memory budget. Beyond that, the oldest entries
+ * are moved to a {@link Spill}, such as a file, and read back when they are undone. Without a spill, they are dropped.
+ */
+public class UndoHistory {
+
+    /** Estimated memory taken by a change, besides the persons and tasks it refers to. */
+    static final long ESTIMATED_BYTES_PER_CHANGE = 64;
+    /** Estimated memory taken by each person or task that a change refers to. */
+    static final long ESTIMATED_BYTES_PER_ELEMENT = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistory.class);
+
+    /** Newest first. */
+    private final Deque<Entry> undoEntries = new ArrayDeque<>();
+    /** Most recently undone first. */
+    private final Deque<Entry> redoEntries = new ArrayDeque<>();
+    private final List<AddressBookChange> pendingChanges = new ArrayList<>();
+    private final long memoryBudget;
+    private final Spill spill;
+    private long undoEntriesBytes;
+
+    /**
+     * Creates an {@code UndoHistory} that keeps about {@code memoryBudget} bytes of entries in memory, and moves
+     * older entries to {@code spill}, or drops them if {@code spill} is null.
+     */
+    public UndoHistory(long memoryBudget, Spill spill) {
+        checkArgument(memoryBudget >= 0, "Memory budget cannot be negative");
+        this.memoryBudget = memoryBudget;
+        this.spill = spill;
+    }
+
+    /**
+     * Records a change made by the command being executed.
+     */
+    public void record(AddressBookChange change) {
+        requireNonNull(change);
+        pendingChanges.add(change);
+    }
+
+    /**
+     * Groups the changes recorded since the last commit into an entry described by {@code description}, which can
+     * then be undone. Commands that can be redone are forgotten. Does nothing if no changes were recorded.
+     */
+    public void commit(String description) {
+        requireNonNull(description);
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        Entry entry = new Entry(description, pendingChanges);
+        pendingChanges.clear();
+        redoEntries.clear();
+        pushUndoEntry(entry);
+    }
+
+    public boolean canUndo() {
+        return !undoEntries.isEmpty() || (spill != null && !spill.isEmpty());
+    }
+
+    public boolean canRedo() {
+        return !redoEntries.isEmpty();
+    }
+
+    /**
+     * Undoes the changes of the last command that has not been undone on {@code addressBook}.
+     *
+     * @return the description of the command undone, or an empty {@code Optional} if there is none
+     */
+    public Optional<String> undo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        Optional<Entry> entry = popUndoEntry();
+        if (entry.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<AddressBookChange> changes = entry.get().getChanges();
+        List<AddressBookChange> inverses = new ArrayList<>();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            inverses.add(changes.get(i).invert());
+        }
+        if (!replay(inverses, addressBook)) {
+            return Optional.empty();
+        }
+        redoEntries.push(entry.get());
+        return Optional.of(entry.get().getDescription());
+    }
+
+    /**
+     * Redoes the changes of the last command undone on {@code addressBook}.
+     *
+     * @return the description of the command redone, or an empty {@code Optional} if there is none
+     */
+    public Optional<String> redo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        Entry entry = redoEntries.poll();
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        if (!replay(entry.getChanges(), addressBook)) {
+            return Optional.empty();
+        }
+        pushUndoEntry(entry);
+        return Optional.of(entry.getDescription());
+    }
+
+    /**
+     * Makes {@code changes} to {@code addressBook} in order. If a change does not match the address book, the changes
+     * already made are reverted, and the whole history is forgotten as it no longer matches the address book.
+     *
+     * @return true if all the changes were made
+     */
+    private boolean replay(List<AddressBookChange> changes, AddressBook addressBook) {
+        for (int i = 0; i < changes.size(); i++) {
+            try {
+                changes.get(i).applyTo(addressBook);
+            } catch (PersonNotFoundException | TaskNotFoundException | DuplicatePersonException
+                    | DuplicateTaskException e) {
+                logger.warning("Forgetting the commands that can be undone or redone, as they do not match the "
+                        + "address book: " + changes.get(i));
+                for (int j = i - 1; j >= 0; j--) {
+                    changes.get(j).invert().applyTo(addressBook);
+                }
+                clear();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void clear() {
+        undoEntries.clear();
+        undoEntriesBytes = 0;
+        redoEntries.clear();
+        if (spill != null) {
+            clearSpill();
+        }
+    }
+
+    private void pushUndoEntry(Entry entry) {
+        undoEntries.push(entry);
+        undoEntriesBytes += entry.getEstimatedBytes();
+
+        // the newest entry is always kept in memory
+        while (undoEntriesBytes > memoryBudget && undoEntries.size() > 1) {
+            Entry oldest = undoEntries.removeLast();
+            undoEntriesBytes -= oldest.getEstimatedBytes();
+            spill(oldest);
+        }
+    }
+
+    private Optional<Entry> popUndoEntry() {
+        Entry entry = undoEntries.poll();
+        if (entry != null) {
+            undoEntriesBytes -= entry.getEstimatedBytes();
+            return Optional.of(entry);
+        }
+        if (spill == null || spill.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(spill.pop());
+        } catch (IOException e) {
+            logger.warning("Dropping the older commands that can be undone, as they could not be read: "
+                    + StringUtil.getDetails(e));
+            clearSpill();
+            return Optional.empty();
+        }
+    }
+
+    private void spill(Entry entry) {
+        if (spill == null) {
+            return;
+        }
+
+        try {
+            spill.push(entry);
+        } catch (IOException e) {
+            logger.warning("Dropping the older commands that can be undone, as they could not be written: "
+                    + StringUtil.getDetails(e));
+            clearSpill();
+        }
+    }
+
+    private void clearSpill() {
+        try {
+            spill.clear();
+        } catch (IOException e) {
+            logger.warning("Failed to clear the older commands that can be undone: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * The changes made by a single command. Guarantees: immutable.
+     */
+    public static class Entry {
+        private final String description;
+        private final List<AddressBookChange> changes;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public Entry(String description, List<AddressBookChange> changes) {
+            requireNonNull(description);
+            this.description = description;
+            this.changes = List.copyOf(changes);
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public List<AddressBookChange> getChanges() {
+            return changes;
+        }
+
+        long getEstimatedBytes() {
+            long bytes = 0;
+            for (AddressBookChange change : changes) {
+                bytes += ESTIMATED_BYTES_PER_CHANGE + ESTIMATED_BYTES_PER_ELEMENT * change.size();
+            }
+            return bytes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Entry // instanceof handles nulls
+                    && description.equals(((Entry) other).description)
+                    && changes.equals(((Entry) other).changes));
+        }
+
+        @Override
+        public int hashCode() {
+            return changes.hashCode();
+        }
+    }
+
+    /**
+     * Keeps the older entries of an {@code UndoHistory} outside of memory, as a stack.
+     */
+    public interface Spill {
+
+        /**
+         * Returns true if there are no entries in this spill.
+         */
+        boolean isEmpty();
+
+        /**
+         * Adds {@code entry} on top of the entries in this spill. It is newer than all of them.
+         */
+        void push(Entry entry) throws IOException;
+
+        /**
+         * Removes and returns the newest entry in this spill, which must not be empty.
+         */
+        Entry pop() throws IOException;
+
+        /**
+         * Removes all entries in this spill.
+         */
+        void clear() throws IOException;
+    }
+}
@@ -1,11 +1,16 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,8 +18,14 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_UNDO_MEMORY_BUDGET = 4L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean isAddressBookJournaled = false;
+    private Map<String, String> savedTaskViews = new TreeMap<>();
+    private long undoMemoryBudget = DEFAULT_UNDO_MEMORY_BUDGET;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +47,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setAddressBookJournaled(newUserPrefs.isAddressBookJournaled());
+        setSavedTaskViews(newUserPrefs.getSavedTaskViews());
+        setUndoMemoryBudget(newUserPrefs.getUndoMemoryBudget());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +71,58 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isAddressBookJournaled() {
+        return isAddressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean isAddressBookJournaled) {
+        this.isAddressBookJournaled = isAddressBookJournaled;
+    }
+
+    public Map<String, String> getSavedTaskViews() {
+        return Collections.unmodifiableMap(savedTaskViews);
+    }
+
+    public void setSavedTaskViews(Map<String, String> savedTaskViews) {
+        requireNonNull(savedTaskViews);
+        this.savedTaskViews = new TreeMap<>(savedTaskViews);
+    }
+
+    /**
+     * Saves the query {@code definition} of the task view {@code name}, replacing any view with that name.
+     */
+    public void putSavedTaskView(String name, String definition) {
+        requireNonNull(name);
+        requireNonNull(definition);
+        savedTaskViews.put(name, definition);
+    }
+
+    /**
+     * Removes the task view {@code name}, if there is one.
+     */
+    public void removeSavedTaskView(String name) {
+        requireNonNull(name);
+        savedTaskViews.remove(name);
+    }
+
+    public long getUndoMemoryBudget() {
+        return undoMemoryBudget;
+    }
+
+    public void setUndoMemoryBudget(long undoMemoryBudget) {
+        checkArgument(undoMemoryBudget >= 0, "Undo memory budget cannot be negative");
+        this.undoMemoryBudget = undoMemoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +135,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookFormat == o.addressBookFormat
+                && isAddressBookJournaled == o.isAddressBookJournaled
+                && savedTaskViews.equals(o.savedTaskViews)
+                && undoMemoryBudget == o.undoMemoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, isAddressBookJournaled,
+                savedTaskViews, undoMemoryBudget);
     }
 
     @Override
@@ -81,6 +153,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nLocal data file journaled : " + isAddressBookJournaled);
+        sb.append("\nSaved task views : " + savedTaskViews);
+        sb.append("\nUndo memory budget : " + undoMemoryBudget);
         return sb.toString();
     }
 
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -38,12 +40,15 @@ public class Email {
     private static final Email noEmail = new Email();
 
     public final String value;
+    /** The value in lower case, which equal emails share, computed once so that hashing does not allocate. */
+    private final String lowerCaseValue;
 
     /**
      * Constructor for noEmail instance.
      */
     private Email() {
         value = "NO PERSON";
+        lowerCaseValue = value.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -55,6 +60,7 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        lowerCaseValue = email.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -73,12 +79,12 @@ public class Email {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Email // instanceof handles nulls
-                && value.equalsIgnoreCase(((Email) other).value)); // state check
+                && lowerCaseValue.equals(((Email) other).lowerCaseValue)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return lowerCaseValue.hashCode();
     }
 
     public static Email getNoEmailInstance() {
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.WordSet;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -24,12 +26,14 @@ public class Name {
     private static final Name noName = new Name();
 
     public final String fullName;
+    private final WordSet words;
 
     /**
      * Constructor for noName instance.
      */
     private Name() {
         fullName = "None";
+        words = WordSet.of(fullName);
     }
 
     /**
@@ -41,6 +45,14 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        words = WordSet.of(name);
+    }
+
+    /**
+     * Returns the words of the name in lower case.
+     */
+    public WordSet getWords() {
+        return words;
     }
 
     /**
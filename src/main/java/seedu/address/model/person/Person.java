@@ -1,60 +1,59 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
-import seedu.address.model.task.Task;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The tasks assigned to a person are looked up in the task list of the address book by the person's email.
  */
 public class Person {
 
+    public static final String ID_MESSAGE_CONSTRAINT = "ID should be a non-negative integer";
+
     // Identity fields
-    private Name name;
-    private Phone phone;
-    private Email email;
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
 
     // Data fields
-    private Address address;
-    private Set<Tag> tags = new HashSet<>();
+    private final Address address;
+    private final Set<Tag> tags = new HashSet<>();
 
-    private List<Task> tasks = new ArrayList<>();
+    // Surrogate key, drawn from the IdSequence unless given
+    private final long id;
 
     /**
+     * Creates a person with the next ID in the {@link IdSequence}.
      * Every field must be present and not null.
      */
-    public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, List<Task> tasks) {
-        requireAllNonNull(name, phone, email, address, tags);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
-        this.tasks.addAll(tasks);
+    public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(IdSequence.next(), name, phone, email, address, tags);
     }
 
     /**
-     * Function used to edit the person
+     * Creates a person with the given non-negative ID, such as one loaded from storage or the ID of the person it
+     * replaces. The ID is reserved in the {@link IdSequence}, so it is not drawn for another person.
+     * Every field must be present and not null.
      */
-    public void editPerson(Name name, Phone phone, Email email, Address address, Set<Tag> tags, List<Task> tasks) {
+    public Person(long id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
+        checkArgument(id >= 0, ID_MESSAGE_CONSTRAINT);
+        IdSequence.reserve(id);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags = new HashSet<>();
         this.tags.addAll(tags);
-        this.tasks = new ArrayList<>();
-        this.tasks.addAll(tasks);
     }
 
     public Name getName() {
@@ -82,30 +81,10 @@ public class Person {
     }
 
     /**
-     * Returns the list of Tasks that have been assigned to this person
-     *
-     * @return list of Tasks
-     */
-    public List<Task> getTasks() {
-        return Collections.unmodifiableList(tasks);
-    }
-
-    /**
-     * Assigns a new task to the person
-     *
-     * @param task task to be added
-     */
-    public void addTask(Task task) {
-        this.tasks.add(task);
-    }
-
-    /**
-     * Removes a task from the person
-     *
-     * @param taskToDelete task to be deleted
+     * Returns the ID of this person, which is shared only by the edited persons that replace it.
      */
-    public void removeTask(Task taskToDelete) {
-        this.tasks.remove(taskToDelete);
+    public long getId() {
+        return id;
     }
 
     /**
@@ -144,14 +123,13 @@ public class Person {
                 && otherPerson.getPhone().equals(getPhone())
                 && otherPerson.getEmail().equals(getEmail())
                 && otherPerson.getAddress().equals(getAddress())
-                && otherPerson.getTags().equals(getTags())
-                && otherPerson.getTasks().equals(getTasks());
+                && otherPerson.getTags().equals(getTags());
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, tasks);
+        // equal persons have equal emails
+        return email.hashCode();
     }
 
     @Override
@@ -0,0 +1,131 @@
+package seedu.address.model.person;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A sorted index of the persons in a {@code UniquePersonList} by the words of their name, their email and their
+ * phone number, all in lower case.
+ * <p>
+ * The persons with a key starting with a prefix are the sub-map from the prefix up to the last string starting with
+ * it, so prefix lookups take O(log n + k) time for k matching keys instead of touching every person. As a
+ * {@code Person} is immutable and the persons in the list have unique emails, an indexed person is found by equality,
+ * and an edited person is indexed anew under the keys of its new fields.
+ * <p>
+ * A filtered list tests every person against a lookup, so a view of the persons found caches them as a hash set and
+ * finds them again only once the index has changed.
+ */
+class PersonIndex {
+
+    private final NavigableMap<String, Set<Person>> byKey = new TreeMap<>();
+    private final Map<Person, List<String>> indexedKeys = new HashMap<>();
+    /** The number of changes to the index, by which a view knows that the persons it found may be out of date. */
+    private int modCount;
+
+    /**
+     * Indexes {@code person}, which must not already be indexed.
+     */
+    void add(Person person) {
+        modCount++;
+        List<String> keys = keysOf(person);
+        indexedKeys.put(person, keys);
+        for (String key : keys) {
+            byKey.computeIfAbsent(key, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        List<String> keys = indexedKeys.remove(person);
+        if (keys == null) {
+            return;
+        }
+        modCount++;
+        for (String key : keys) {
+            Set<Person> persons = byKey.get(key);
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                byKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the indexed persons with {@code persons}.
+     */
+    void setAll(List<Person> persons) {
+        modCount++;
+        byKey.clear();
+        indexedKeys.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the persons with a name word, email or phone number that starts with any
+     * of {@code prefixes}, ignoring case.
+     */
+    Set<Person> withAnyPrefix(List<String> prefixes) {
+        List<String> lowerCasePrefixes = new ArrayList<>();
+        for (String prefix : prefixes) {
+            lowerCasePrefixes.addAll(StringUtil.toLowerCaseWords(prefix));
+        }
+
+        return new AbstractSet<>() {
+            private Set<Person> found;
+            private int foundAt;
+
+            @Override
+            public boolean contains(Object o) {
+                return found().contains(o);
+            }
+
+            @Override
+            public Iterator<Person> iterator() {
+                return Collections.unmodifiableSet(found()).iterator();
+            }
+
+            @Override
+            public int size() {
+                return found().size();
+            }
+
+            private Set<Person> found() {
+                if (found == null || foundAt != modCount) {
+                    found = find(lowerCasePrefixes);
+                    foundAt = modCount;
+                }
+                return found;
+            }
+        };
+    }
+
+    private Set<Person> find(List<String> lowerCasePrefixes) {
+        Set<Person> found = new HashSet<>();
+        for (String prefix : lowerCasePrefixes) {
+            byKey.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values().forEach(found::addAll);
+        }
+        return found;
+    }
+
+    private static List<String> keysOf(Person person) {
+        Set<String> keys = new LinkedHashSet<>(StringUtil.toLowerCaseWords(person.getName().fullName));
+        keys.add(person.getEmail().value.toLowerCase(Locale.ROOT));
+        keys.add(person.getPhone().value.toLowerCase(Locale.ROOT));
+        return new ArrayList<>(keys);
+    }
+}
@@ -4,14 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.DuplicatePersonIdException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.CopyOnSnapshotList;
+import seedu.address.model.util.PositionIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,22 +28,31 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  * <p>
+ * Persons are also indexed by their {@code Email}, their id and their position, so identity checks, lookups by email
+ * or id and edits do not need to scan the list, and by the words of their name, their email and their phone number
+ * in sorted order, so prefix searches do not either.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final CopyOnSnapshotList<Person> backingList = new CopyOnSnapshotList<>();
+    private final ObservableList<Person> internalList = FXCollections.observableList(backingList);
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Email, Person> emailIndex = new HashMap<>();
+    private final Map<Long, Person> idIndex = new HashMap<>();
+    private final PersonIndex personIndex = new PersonIndex();
+    private final PositionIndex<Email, Person> positions = new PositionIndex<>(backingList, Person::getEmail);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return emailIndex.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -50,11 +67,18 @@ public class UniquePersonList implements Iterable<Person> {
         if (email.equals(Email.getNoEmailInstance())) {
             return null;
         }
-        Optional<Person> person = internalList.stream().filter(p -> p.getEmail().equals(email)).findFirst();
-        if (person.isEmpty()) {
+        Person person = emailIndex.get(email);
+        if (person == null) {
             throw new PersonNotFoundException();
         }
-        return person.get();
+        return person;
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if any.
+     */
+    public Optional<Person> getPersonById(long id) {
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
@@ -66,6 +90,13 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        if (isIdTaken(toAdd, null)) {
+            throw new DuplicatePersonIdException();
+        }
+        emailIndex.put(toAdd.getEmail(), toAdd);
+        putId(toAdd);
+        personIndex.add(toAdd);
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
@@ -77,32 +108,130 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int index = positions.indexOf(target.getEmail());
+        if (index == -1 || !internalList.get(index).equals(target)) {
             throw new PersonNotFoundException();
         }
 
+        Person replaced = internalList.get(index);
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+        if (isIdTaken(editedPerson, replaced)) {
+            throw new DuplicatePersonIdException();
+        }
 
+        emailIndex.remove(target.getEmail());
+        emailIndex.put(editedPerson.getEmail(), editedPerson);
+        idIndex.remove(replaced.getId());
+        putId(editedPerson);
+        personIndex.remove(replaced);
+        personIndex.add(editedPerson);
+        positions.remove(replaced);
+        positions.put(editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
+    /**
+     * Signals a change to the observers of this list at the position of {@code toRefresh}, such as to redraw it. Only
+     * that element is re-evaluated by filtered and sorted views of this list. The position is found through the
+     * position index instead of scanning the list.
+     * {@code toRefresh} must exist in the list.
+     */
+    public void refresh(Person toRefresh) {
+        requireNonNull(toRefresh);
+        int index = positions.indexOf(toRefresh.getEmail());
+        if (index == -1 || internalList.get(index) != toRefresh) {
+            throw new PersonNotFoundException();
+        }
+        internalList.set(index, toRefresh);
+    }
+
+    /**
+     * Replaces the persons in the list from position {@code from} with {@code added}, such as to replay a change
+     * recorded from the list. The persons replaced must be equal to {@code removed} and have the same ids. No person
+     * may be added that is the same as another existing person, or that has the id of one.
+     *
+     * @throws PersonNotFoundException if the persons from position {@code from} are not {@code removed}
+     */
+    public void replace(int from, List<Person> removed, List<Person> added) {
+        requireAllNonNull(removed);
+        requireAllNonNull(added);
+        int removedCount = removed.size();
+        if (from < 0 || from + removedCount > internalList.size()) {
+            throw new PersonNotFoundException();
+        }
+        for (int i = 0; i < removedCount; i++) {
+            Person person = internalList.get(from + i);
+            if (!person.equals(removed.get(i)) || person.getId() != removed.get(i).getId()) {
+                throw new PersonNotFoundException();
+            }
+        }
+
+        List<Person> replaced = internalList.subList(from, from + removedCount);
+        Set<Person> removedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedPersons.addAll(replaced);
+        for (Person person : added) {
+            Person samePerson = emailIndex.get(person.getEmail());
+            if (samePerson != null && !removedPersons.contains(samePerson)) {
+                throw new DuplicatePersonException();
+            }
+            Person sameIdPerson = idIndex.get(person.getId());
+            if (sameIdPerson != null && !removedPersons.contains(sameIdPerson)) {
+                throw new DuplicatePersonIdException();
+            }
+        }
+
+        for (Person person : replaced) {
+            emailIndex.remove(person.getEmail());
+            idIndex.remove(person.getId());
+            personIndex.remove(person);
+            positions.remove(person);
+        }
+        for (int i = 0; i < added.size(); i++) {
+            Person person = added.get(i);
+            emailIndex.put(person.getEmail(), person);
+            putId(person);
+            personIndex.add(person);
+            positions.put(person, from + i);
+        }
+        if (removedCount == added.size()) {
+            for (int i = 0; i < removedCount; i++) {
+                internalList.set(from + i, added.get(i));
+            }
+        } else {
+            replaced.clear();
+            internalList.addAll(from, added);
+        }
+    }
+
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positions.indexOf(toRemove.getEmail());
+        if (index == -1 || !internalList.get(index).equals(toRemove)) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.get(index);
+        emailIndex.remove(removed.getEmail());
+        idIndex.remove(removed.getId());
+        personIndex.remove(removed);
+        positions.remove(removed);
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        emailIndex.clear();
+        emailIndex.putAll(replacement.emailIndex);
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
+        personIndex.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        positions.reindex();
     }
 
     /**
@@ -111,11 +240,35 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Email, Person> replacementIndex = indexByEmail(persons);
+        Map<Long, Person> replacementIdIndex = indexById(persons);
 
+        emailIndex.clear();
+        emailIndex.putAll(replacementIndex);
+        idIndex.clear();
+        idIndex.putAll(replacementIdIndex);
+        personIndex.setAll(persons);
         internalList.setAll(persons);
+        positions.reindex();
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the persons with a word of their name, their email or their phone number
+     * starting with any of {@code prefixes}, ignoring case. The persons are looked up in a sorted index of these keys
+     * instead of scanning the list.
+     */
+    public Set<Person> findByPrefixes(List<String> prefixes) {
+        requireAllNonNull(prefixes);
+        return personIndex.withAnyPrefix(prefixes);
+    }
+
+    /**
+     * Returns an immutable list of the persons currently in the list, in constant time.
+     *
+     * @see CopyOnSnapshotList#snapshot()
+     */
+    public List<Person> snapshot() {
+        return backingList.snapshot();
     }
 
     /**
@@ -151,16 +304,44 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by their emails.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
+     */
+    private Map<Email, Person> indexByEmail(List<Person> persons) {
+        Map<Email, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getEmail(), person) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns {@code persons} indexed by their ids.
+     *
+     * @throws DuplicatePersonIdException if two persons in {@code persons} have the same id.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private Map<Long, Person> indexById(List<Person> persons) {
+        Map<Long, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getId(), person) != null) {
+                throw new DuplicatePersonIdException();
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Returns true if the id of {@code person} is held by a person in the list other than {@code replaced}.
+     */
+    private boolean isIdTaken(Person person, Person replaced) {
+        Person holder = idIndex.get(person.getId());
+        return holder != null && holder != replaced;
+    }
+
+    private void putId(Person person) {
+        idIndex.put(person.getId(), person);
     }
 }
@@ -0,0 +1,10 @@
+package seedu.address.model.person.exceptions;
+
+/**
+ * Signals that the operation will result in two different Persons with the same ID.
+ */
+public class DuplicatePersonIdException extends RuntimeException {
+    public DuplicatePersonIdException() {
+        super("Operation would result in different persons with the same ID");
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.WordSet;
+
 /**
  * Represents the description of the task in the task list.
  * Guarantees: immutable; is valid as declared in {@link #isValidTaskDescription(String)}
@@ -19,6 +21,7 @@ public class Description {
     private static final String VALIDATION_REGEX = "[^\\s].*";
 
     private final String taskDescription;
+    private final WordSet words;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +32,14 @@ public class Description {
         requireNonNull(name);
         checkArgument(isValidTaskDescription(name), MESSAGE_CONSTRAINTS);
         taskDescription = name;
+        words = WordSet.of(name);
+    }
+
+    /**
+     * Returns the words of the description in lower case.
+     */
+    public WordSet getWords() {
+        return words;
     }
 
     /**
@@ -0,0 +1,26 @@
+package seedu.address.model.task;
+
+import java.util.Comparator;
+
+/**
+ * Helper class implementing Comparator interface to sort a task list from the most urgent task. Tasks due earlier
+ * are more urgent, and tasks due on the same day are more urgent the higher their priority.
+ */
+public class SortByUrgency implements Comparator<Task> {
+
+    /**
+     * Compares two Tasks based on their urgency for order. Returns a negative integer, zero, or a positive integer
+     * as the first Task is more urgent than, as urgent as, or less urgent than the second.
+     * @param task1 the first Task to be compared
+     * @param task2 the second Task to be compared
+     * @return a negative integer, zero, or a positive integer as the first Task is more urgent than, as urgent as,
+     *         or less urgent than the second
+     */
+    public int compare(Task task1, Task task2) {
+        int byDeadline = task1.getDeadline().getDeadline().compareTo(task2.getDeadline().getDeadline());
+        if (byDeadline != 0) {
+            return byDeadline;
+        }
+        return task2.getPriority().getPriority().compareTo(task1.getPriority().getPriority());
+    }
+}
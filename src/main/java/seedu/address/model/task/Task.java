@@ -1,37 +1,44 @@
 package seedu.address.model.task;
 
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Objects;
-
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Represents a Task in the address book.
- * Guarantees: details are present and not null, field values are validated.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ * Changes to a task are made by replacing it with a changed copy, such as {@link #withDone(boolean)}, which keeps
+ * the ID of the task.
  */
 public class Task {
     public static final String IS_DONE_MESSAGE_CONSTRAINT = "IsDone can only be true or false in String form";
+    public static final String ID_MESSAGE_CONSTRAINT = "ID should be a non-negative integer";
     private static final String IS_DONE_TRUE_STRING = "true";
     private static final String IS_DONE_FALSE_STRING = "false";
 
     // Identity fields
-    private TaskName name;
-    private Description description;
+    private final TaskName name;
+    private final Description description;
 
     // Data fields
-    private Priority priority;
-    private TaskCategory category;
-    private TaskDeadline deadline;
-    private Person person;
+    private final Priority priority;
+    private final TaskCategory category;
+    private final TaskDeadline deadline;
+    private final Person person;
+
+    private final boolean isDone;
 
-    private boolean isDone;
+    // Surrogate key, drawn from the IdSequence unless given
+    private final long id;
 
     /**
-     * Constructor method to instantiate a Task object. Every field must be present and not null.
+     * Constructor method to instantiate a Task object with the next ID in the {@link IdSequence}.
+     * Every field must be present and not null.
      *
      * @param name     Name of task
      * @param category Category of task
@@ -43,19 +50,15 @@ public class Task {
      */
     public Task(TaskName name, Description desc, Priority priority, TaskCategory category,
                 TaskDeadline deadline, Person person, boolean status) {
-        requireAllNonNull(name, category, desc, priority, deadline, status);
-        this.name = name;
-        this.category = category;
-        description = desc;
-        this.priority = priority;
-        this.deadline = deadline;
-        this.person = person;
-        isDone = status;
+        this(IdSequence.next(), name, desc, priority, category, deadline, person, status);
     }
 
     /**
-     * A method used to update the value of the task/
+     * Constructor method to instantiate a Task object with the given ID, such as one loaded from storage or the ID
+     * of the task it replaces. The ID is reserved in the {@link IdSequence}, so it is not drawn for another task.
+     * Every field must be present and not null.
      *
+     * @param id       non-negative ID of task
      * @param name     Name of task
      * @param category Category of task
      * @param desc     Description of task
@@ -64,9 +67,12 @@ public class Task {
      * @param person   Person assigned to this task
      * @param status   status of task
      */
-    public void editTask(TaskName name, Description desc, Priority priority, TaskCategory category,
-                         TaskDeadline deadline, Person person, boolean status) {
+    public Task(long id, TaskName name, Description desc, Priority priority, TaskCategory category,
+                TaskDeadline deadline, Person person, boolean status) {
         requireAllNonNull(name, category, desc, priority, deadline, status);
+        checkArgument(id >= 0, ID_MESSAGE_CONSTRAINT);
+        IdSequence.reserve(id);
+        this.id = id;
         this.name = name;
         this.category = category;
         description = desc;
@@ -76,6 +82,13 @@ public class Task {
         isDone = status;
     }
 
+    /**
+     * Returns the ID of this Task, which is shared only by its changed copies.
+     */
+    public long getId() {
+        return id;
+    }
+
     /**
      * Returns the String representation of isDone.
      *
@@ -86,15 +99,6 @@ public class Task {
         return isDone ? IS_DONE_TRUE_STRING : IS_DONE_FALSE_STRING;
     }
 
-    /**
-     * Setter method for whether this Task has been completed.
-     *
-     * @param isDone true if this Task is done, and false otherwise
-     */
-    public void isDone(boolean isDone) {
-        this.isDone = isDone;
-    }
-
     /**
      * Returns true if this Task is done, and false otherwise.
      *
@@ -113,15 +117,6 @@ public class Task {
         return name;
     }
 
-    /**
-     * Setter method for Name field.
-     *
-     * @param newName new Name for this Task object
-     */
-    public void setName(TaskName newName) {
-        name = newName;
-    }
-
     /**
      * Returns the Description of this Task.
      *
@@ -131,15 +126,6 @@ public class Task {
         return description;
     }
 
-    /**
-     * Setter method for Description field.
-     *
-     * @param newDesc new Description for this Task object
-     */
-    public void setDescription(Description newDesc) {
-        description = newDesc;
-    }
-
     /**
      * Returns the Priority of this Task.
      *
@@ -149,15 +135,6 @@ public class Task {
         return priority;
     }
 
-    /**
-     * Setter method for Priority field.
-     *
-     * @param newPriority new Priority for this Task object
-     */
-    public void setPriority(Priority newPriority) {
-        priority = newPriority;
-    }
-
     /**
      * Returns the Category of this Task.
      *
@@ -167,15 +144,6 @@ public class Task {
         return category;
     }
 
-    /**
-     * Setter method for Category field.
-     *
-     * @param newCategory new Category for this Task
-     */
-    public void setCategory(TaskCategory newCategory) {
-        category = newCategory;
-    }
-
     /**
      * Returns the Deadline of this Task.
      *
@@ -185,15 +153,6 @@ public class Task {
         return deadline;
     }
 
-    /**
-     * Setter method for Deadline field.
-     *
-     * @param newDeadline new Deadline for this Task
-     */
-    public void setDeadline(TaskDeadline newDeadline) {
-        deadline = newDeadline;
-    }
-
     /**
      * Returns the person assigned to this Task.
      *
@@ -203,15 +162,6 @@ public class Task {
         return person;
     }
 
-    /**
-     * Setter method for personEmailAddress field.
-     *
-     * @param person Email of the new person assigned to this Task
-     */
-    public void setPerson(Person person) {
-        this.person = person;
-    }
-
     /**
      * Returns the name of the person assigned to this task
      *
@@ -236,6 +186,26 @@ public class Task {
         return this.person.getEmail();
     }
 
+    /**
+     * Returns a copy of this Task with the same ID, assigned to {@code person} instead.
+     *
+     * @param person Person assigned to the copy, or null if it is unassigned
+     * @return a copy of this Task assigned to {@code person}
+     */
+    public Task withPerson(Person person) {
+        return new Task(id, name, description, priority, category, deadline, person, isDone);
+    }
+
+    /**
+     * Returns a copy of this Task with the same ID, with {@code isDone} as its status instead.
+     *
+     * @param isDone true if the copy is done, and false otherwise
+     * @return a copy of this Task with the given status
+     */
+    public Task withDone(boolean isDone) {
+        return new Task(id, name, description, priority, category, deadline, person, isDone);
+    }
+
     public boolean getStatus() {
         return isDone;
     }
@@ -289,13 +259,13 @@ public class Task {
     }
 
     /**
-     * Method for custom fields hashing.
+     * Hashes only the name, which equal tasks share, so that hashing a task does not hash its assigned person.
      *
      * @return a hash code value for the object
      */
     @Override
     public int hashCode() {
-        return Objects.hash(name, description, priority, category, deadline, person, isDone);
+        return name.hashCode();
     }
 
     @Override
@@ -332,7 +302,7 @@ public class Task {
     }
 
     /**
-     * Returns a new copy of the Task
+     * Returns a new copy of the Task, with the same ID
      *
      * @return a copy of the task.
      */
@@ -344,7 +314,8 @@ public class Task {
         TaskDeadline copyDeadline = new TaskDeadline(this.deadline.getDeadline());
         Person copyPerson = this.person;
         Boolean copyIsDone = this.isDone;
-        Task copy = new Task(copyName, copyDescription, copyPrioirty, copyCat, copyDeadline, copyPerson, copyIsDone);
+        Task copy = new Task(id, copyName, copyDescription, copyPrioirty, copyCat, copyDeadline, copyPerson,
+                copyIsDone);
         return copy;
     }
 
@@ -0,0 +1,215 @@
+package seedu.address.model.task;
+
+import static seedu.address.model.task.TaskSets.bucket;
+import static seedu.address.model.task.TaskSets.unbucket;
+import static seedu.address.model.task.TaskSets.view;
+
+import java.time.LocalDate;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Email;
+
+/**
+ * Indexes of the tasks in a {@code TaskList} by category, priority, deadline, status and assignee.
+ * Deadlines are kept in a {@code NavigableMap} keyed by epoch day, so tasks with a deadline in a range are found by
+ * scanning only the sub-map of that range. The tasks that are not done are also kept in order of urgency, so the k
+ * most urgent tasks are read off the front of that map in O(k) time, and each change to a task costs O(log n).
+ * <p>
+ * The attributes each task was indexed under are remembered, so that it can be removed from its sets without
+ * deriving them again.
+ */
+class TaskAttributeIndex {
+
+    private final Map<TaskCategoryType, Set<Task>> byCategory = new EnumMap<>(TaskCategoryType.class);
+    private final Map<PriorityEnum, Set<Task>> byPriority = new EnumMap<>(PriorityEnum.class);
+    private final NavigableMap<Long, Set<Task>> byDeadline = new TreeMap<>();
+    private final NavigableMap<Long, Set<Task>> byUrgency = new TreeMap<>();
+    private final Map<Boolean, Set<Task>> byStatus = new HashMap<>();
+    private final Map<Email, Set<Task>> byAssignee = new HashMap<>();
+    private final Map<Task, IndexedAttributes> indexedAttributes = new IdentityHashMap<>();
+
+    /**
+     * Indexes {@code task}, which must not already be indexed.
+     */
+    void add(Task task) {
+        IndexedAttributes attributes = new IndexedAttributes(task);
+        indexedAttributes.put(task, attributes);
+        bucket(byCategory, attributes.category).add(task);
+        bucket(byPriority, attributes.priority).add(task);
+        bucket(byDeadline, attributes.deadline).add(task);
+        if (!attributes.isDone) {
+            bucket(byUrgency, attributes.urgency()).add(task);
+        }
+        bucket(byStatus, attributes.isDone).add(task);
+        bucket(byAssignee, attributes.assignee).add(task);
+    }
+
+    /**
+     * Removes {@code task} from the index, using the attributes it was indexed under.
+     *
+     * @return true if {@code task} was indexed
+     */
+    boolean remove(Task task) {
+        IndexedAttributes attributes = indexedAttributes.remove(task);
+        if (attributes == null) {
+            return false;
+        }
+        unbucket(byCategory, attributes.category, task);
+        unbucket(byPriority, attributes.priority, task);
+        unbucket(byDeadline, attributes.deadline, task);
+        if (!attributes.isDone) {
+            unbucket(byUrgency, attributes.urgency(), task);
+        }
+        unbucket(byStatus, attributes.isDone, task);
+        unbucket(byAssignee, attributes.assignee, task);
+        return true;
+    }
+
+    void clear() {
+        byCategory.clear();
+        byPriority.clear();
+        byDeadline.clear();
+        byUrgency.clear();
+        byStatus.clear();
+        byAssignee.clear();
+        indexedAttributes.clear();
+    }
+
+    Set<Task> all() {
+        return Collections.unmodifiableSet(indexedAttributes.keySet());
+    }
+
+    Set<Task> withCategory(TaskCategoryType category) {
+        return view(byCategory, category);
+    }
+
+    Set<Task> withPriority(PriorityEnum priority) {
+        return view(byPriority, priority);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks with a deadline from epoch day {@code from} to epoch day
+     * {@code to}, both inclusive. Iterating over the view takes O(log n + k) time for k tasks in the range.
+     */
+    Set<Task> withDeadlineBetween(long from, long to) {
+        return new AbstractSet<>() {
+            @Override
+            public boolean contains(Object o) {
+                IndexedAttributes attributes = indexedAttributes.get(o);
+                return attributes != null && attributes.deadline >= from && attributes.deadline <= to;
+            }
+
+            @Override
+            public Iterator<Task> iterator() {
+                return range().values().stream().flatMap(Set::stream).iterator();
+            }
+
+            @Override
+            public int size() {
+                return range().values().stream().mapToInt(Set::size).sum();
+            }
+
+            private NavigableMap<Long, Set<Task>> range() {
+                return from > to ? Collections.emptyNavigableMap() : byDeadline.subMap(from, true, to, true);
+            }
+        };
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks with a deadline in {@code range}. The dates of a range relative
+     * to today are worked out again on each access, so the view moves with the date.
+     */
+    Set<Task> withDeadlineIn(TaskDateRange range) {
+        if (!range.isRelative()) {
+            return withDeadlineInDatesOf(range);
+        }
+        return new AbstractSet<>() {
+            @Override
+            public boolean contains(Object o) {
+                IndexedAttributes attributes = indexedAttributes.get(o);
+                return attributes != null && range.contains(LocalDate.ofEpochDay(attributes.deadline));
+            }
+
+            @Override
+            public Iterator<Task> iterator() {
+                return withDeadlineInDatesOf(range).iterator();
+            }
+
+            @Override
+            public int size() {
+                return withDeadlineInDatesOf(range).size();
+            }
+        };
+    }
+
+    /**
+     * Returns a live view of the tasks with a deadline between the dates of {@code range} as of now.
+     */
+    private Set<Task> withDeadlineInDatesOf(TaskDateRange range) {
+        return withDeadlineBetween(range.getStart().map(LocalDate::toEpochDay).orElse(Long.MIN_VALUE),
+                range.getEnd().map(LocalDate::toEpochDay).orElse(Long.MAX_VALUE));
+    }
+
+    /**
+     * Returns up to {@code count} of the tasks that are not done, from the most urgent. Tasks due earlier are more
+     * urgent, and tasks due on the same day are ordered from the highest priority.
+     */
+    List<Task> mostUrgent(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (Set<Task> bucket : byUrgency.values()) {
+            for (Task task : bucket) {
+                if (tasks.size() == count) {
+                    return tasks;
+                }
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    Set<Task> withStatus(boolean isDone) {
+        return view(byStatus, isDone);
+    }
+
+    Set<Task> assignedTo(Email assignee) {
+        return view(byAssignee, assignee);
+    }
+
+    /**
+     * The attributes a task was indexed under.
+     */
+    private static class IndexedAttributes {
+        private final TaskCategoryType category;
+        private final PriorityEnum priority;
+        private final long deadline;
+        private final boolean isDone;
+        private final Email assignee;
+
+        IndexedAttributes(Task task) {
+            category = task.getCategory().getTaskCategoryType();
+            priority = task.getPriority().getPriority();
+            deadline = task.getDeadline().getDeadline().toEpochDay();
+            isDone = task.isDone();
+            assignee = task.getEmail();
+        }
+
+        /**
+         * Returns a key that orders tasks by deadline, and then from the highest priority.
+         */
+        long urgency() {
+            int priorityCount = PriorityEnum.values().length;
+            return deadline * priorityCount + (priorityCount - 1 - priority.ordinal());
+        }
+    }
+}
@@ -10,17 +10,24 @@ import seedu.address.commons.util.StringUtil;
  */
 public class TaskContainsKeywordsPredicate implements Predicate<Task> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * @param keywords keywords to match, each a single word
+     */
     public TaskContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCase(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Task task) {
-        return keywords.stream().anyMatch(
-                keyword -> StringUtil.containsWordIgnoreCase(task.getName().toString(), keyword))
-                || keywords.stream().anyMatch(
-                        keyword -> StringUtil.containsWordIgnoreCase(task.getDescription().toString(), keyword));
+        return task.getName().getWords().containsAny(lowerCaseKeywords)
+                || task.getDescription().getWords().containsAny(lowerCaseKeywords);
     }
 
     @Override
@@ -0,0 +1,108 @@
+package seedu.address.model.task;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents an inclusive range of dates that the deadline of a task can fall in.
+ * Either end of the range may be left open. A range may also be relative to today, in which case its dates are worked
+ * out whenever they are read, so that a range kept across days, such as in a saved view, moves with the date.
+ */
+public class TaskDateRange {
+    public static final String MESSAGE_CONSTRAINTS =
+            "Date range should be in YYYY-MM-DD..YYYY-MM-DD format, with the start on or before the end. "
+            + "Either date may be left out to leave that end of the range open.";
+    public static final String RANGE_SEPARATOR = "..";
+
+    private final LocalDate start;
+    private final LocalDate end;
+    /** Number of days after today that a range relative to today ends, or null if the range is fixed. */
+    private final Integer days;
+
+    /**
+     * Constructor method for {@code TaskDateRange} class. A null {@code start} or {@code end} leaves that end of the
+     * range open.
+     */
+    public TaskDateRange(LocalDate start, LocalDate end) {
+        checkArgument(start == null || end == null || !start.isAfter(end), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+        this.days = null;
+    }
+
+    private TaskDateRange(int days) {
+        checkArgument(days >= 0, MESSAGE_CONSTRAINTS);
+        this.start = null;
+        this.end = null;
+        this.days = days;
+    }
+
+    /**
+     * Returns the range of dates on or before {@code date}.
+     */
+    public static TaskDateRange onOrBefore(TaskDate date) {
+        return new TaskDateRange(null, date.getDate());
+    }
+
+    /**
+     * Returns the range of dates from today to {@code days} days after it, as of the day it is checked.
+     */
+    public static TaskDateRange within(int days) {
+        return new TaskDateRange(days);
+    }
+
+    /**
+     * Returns true if the dates of this range are relative to today.
+     */
+    public boolean isRelative() {
+        return days != null;
+    }
+
+    public Optional<LocalDate> getStart() {
+        return isRelative() ? Optional.of(LocalDate.now()) : Optional.ofNullable(start);
+    }
+
+    public Optional<LocalDate> getEnd() {
+        return isRelative() ? Optional.of(LocalDate.now().plusDays(days)) : Optional.ofNullable(end);
+    }
+
+    /**
+     * Returns true if {@code date} is in this range.
+     */
+    public boolean contains(LocalDate date) {
+        if (isRelative()) {
+            LocalDate today = LocalDate.now();
+            return !date.isBefore(today) && !date.isAfter(today.plusDays(days));
+        }
+        return (start == null || !date.isBefore(start)) && (end == null || !date.isAfter(end));
+    }
+
+    /**
+     * Returns the string representation of the range, as it is entered by the user for a fixed range.
+     */
+    @Override
+    public String toString() {
+        if (isRelative()) {
+            return "within " + days + " days";
+        }
+        return getStart().map(LocalDate::toString).orElse("") + RANGE_SEPARATOR
+                + getEnd().map(LocalDate::toString).orElse("");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskDateRange // instanceof handles nulls
+                && Objects.equals(start, ((TaskDateRange) other).start)
+                && Objects.equals(end, ((TaskDateRange) other).end)
+                && Objects.equals(days, ((TaskDateRange) other).days)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, days);
+    }
+}
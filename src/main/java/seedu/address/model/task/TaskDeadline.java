@@ -5,27 +5,31 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
-import seedu.address.model.task.exceptions.DatePastException;
-
 /**
  * Represents the deadline of a task
  */
 public class TaskDeadline {
     public static final String MESSAGE_CONSTRAINTS =
             "Deadline should be in YYYY-MM-DD format";
+    public static final String MESSAGE_PAST = "Deadline must be a date in the future";
     private final LocalDate deadline;
 
     /**
-     * Constructor for deadline.
+     * Constructor for deadline. The date may have passed, such as for a task loaded from storage; new deadlines
+     * entered by the user are checked with {@link #isPast()} instead.
      */
     public TaskDeadline(LocalDate date) {
         requireNonNull(date);
-        if (LocalDate.now().isAfter(date)) {
-            throw new DatePastException();
-        }
         this.deadline = date;
     }
 
+    /**
+     * Returns true if the deadline is before today.
+     */
+    public boolean isPast() {
+        return LocalDate.now().isAfter(deadline);
+    }
+
     /**
      * Returns the deadline of a task.
      */
@@ -10,15 +10,19 @@ import seedu.address.commons.util.StringUtil;
  */
 public class TaskDescriptionContainsKeywordsPredicate implements Predicate<Task> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * @param keywords keywords to match, each a single word
+     */
     public TaskDescriptionContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCase(keywords);
     }
 
     @Override
     public boolean test(Task task) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getDescription().toString(), keyword));
+        return task.getDescription().getWords().containsAny(lowerCaseKeywords);
     }
 
     @Override
@@ -0,0 +1,138 @@
+package seedu.address.model.task;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Email;
+
+/**
+ * The secondary indexes of the tasks in a {@code TaskList}, kept up to date together as tasks are added and removed.
+ * <ul>
+ *     <li>{@link TaskAttributeIndex} finds tasks by category, priority, deadline, status and assignee.</li>
+ *     <li>{@link TaskWordIndex} finds and ranks tasks by the words in their names and descriptions, and matches
+ *     misspelt keywords through a {@link WordTrigramIndex} of those words.</li>
+ *     <li>{@link TaskViewIndex} keeps the named views of the tasks matching a predicate.</li>
+ * </ul>
+ * <p>
+ * A {@code Task} is immutable, so an edited task is a new object that is removed and added again, and an indexed task
+ * never changes under the indexes.
+ */
+class TaskIndex {
+
+    private final TaskAttributeIndex attributes = new TaskAttributeIndex();
+    private final TaskWordIndex words = new TaskWordIndex();
+    private final TaskViewIndex views = new TaskViewIndex(attributes.all());
+
+    /**
+     * Indexes {@code task}, which must not already be indexed.
+     */
+    void add(Task task) {
+        attributes.add(task);
+        words.add(task);
+        views.add(task);
+    }
+
+    /**
+     * Removes {@code task} from the indexes, if it is indexed.
+     */
+    void remove(Task task) {
+        if (!attributes.remove(task)) {
+            return;
+        }
+        words.remove(task);
+        views.remove(task);
+    }
+
+    /**
+     * Replaces the indexed tasks with {@code tasks}.
+     */
+    void setAll(List<Task> tasks) {
+        attributes.clear();
+        words.clear();
+        views.clear();
+        tasks.forEach(this::add);
+    }
+
+    Set<Task> all() {
+        return attributes.all();
+    }
+
+    Set<Task> withCategory(TaskCategoryType category) {
+        return attributes.withCategory(category);
+    }
+
+    Set<Task> withPriority(PriorityEnum priority) {
+        return attributes.withPriority(priority);
+    }
+
+    /**
+     * @see TaskAttributeIndex#withDeadlineBetween(long, long)
+     */
+    Set<Task> withDeadlineBetween(long from, long to) {
+        return attributes.withDeadlineBetween(from, to);
+    }
+
+    /**
+     * @see TaskAttributeIndex#withDeadlineIn(TaskDateRange)
+     */
+    Set<Task> withDeadlineIn(TaskDateRange range) {
+        return attributes.withDeadlineIn(range);
+    }
+
+    /**
+     * @see TaskAttributeIndex#mostUrgent(int)
+     */
+    List<Task> mostUrgent(int count) {
+        return attributes.mostUrgent(count);
+    }
+
+    Set<Task> withStatus(boolean isDone) {
+        return attributes.withStatus(isDone);
+    }
+
+    Set<Task> assignedTo(Email assignee) {
+        return attributes.assignedTo(assignee);
+    }
+
+    /**
+     * @see TaskWordIndex#withAnyWord(List)
+     */
+    Set<Task> withAnyWord(List<String> keywords) {
+        return words.withAnyWord(keywords);
+    }
+
+    /**
+     * @see TaskWordIndex#similarWords(List)
+     */
+    List<String> similarWords(List<String> keywords) {
+        return words.similarWords(keywords);
+    }
+
+    /**
+     * @see TaskWordIndex#score(List)
+     */
+    Map<Task, Double> score(List<String> keywords) {
+        return words.score(keywords);
+    }
+
+    /**
+     * @see TaskViewIndex#materialize(String, Predicate)
+     */
+    Set<Task> materialize(String name, Predicate<Task> predicate) {
+        return views.materialize(name, predicate);
+    }
+
+    void dematerialize(String name) {
+        views.dematerialize(name);
+    }
+
+    /**
+     * @see TaskViewIndex#materialized(String)
+     */
+    Optional<Set<Task>> materialized(String name) {
+        return views.materialized(name);
+    }
+}
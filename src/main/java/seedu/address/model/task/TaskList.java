@@ -1,17 +1,28 @@
 package seedu.address.model.task;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
+import seedu.address.model.task.exceptions.DuplicateTaskIdException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
+import seedu.address.model.util.CopyOnSnapshotList;
+import seedu.address.model.util.PositionIndex;
 
 
 
@@ -22,15 +33,25 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
  * identity in the TaskList. However, the removal of a task uses Task#equals(Object) to ensure that the task with
  * exactly the same fields will be removed.
  * <p>
+ * Tasks are also indexed by their {@code TaskName}, their id and their position, so identity checks, lookups and
+ * edits do not need to scan the list, and by their category, priority, deadline, status, assignee and words, so
+ * filters and keyword searches are resolved from the index. The indexes are updated before observers of this list are
+ * notified, so filters over this list see the change.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
  */
 public class TaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final CopyOnSnapshotList<Task> backingList = new CopyOnSnapshotList<>();
+    private final ObservableList<Task> internalList = FXCollections.observableList(backingList);
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<TaskName, Task> nameIndex = new HashMap<>();
+    private final Map<Long, Task> idIndex = new HashMap<>();
+    private final TaskIndex taskIndex = new TaskIndex();
+    private final PositionIndex<TaskName, Task> positions = new PositionIndex<>(backingList, Task::getName);
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
@@ -40,7 +61,7 @@ public class TaskList implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -54,6 +75,13 @@ public class TaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
+        if (isIdTaken(toAdd, null)) {
+            throw new DuplicateTaskIdException();
+        }
+        nameIndex.put(toAdd.getName(), toAdd);
+        putId(toAdd);
+        taskIndex.add(toAdd);
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
@@ -65,9 +93,13 @@ public class TaskList implements Iterable<Task> {
      */
     public void delete(Task toDelete) {
         requireNonNull(toDelete);
-        if (!internalList.remove(toDelete)) {
-            throw new TaskNotFoundException();
-        }
+        int index = indexOf(toDelete);
+        Task removed = internalList.get(index);
+        nameIndex.remove(removed.getName());
+        idIndex.remove(removed.getId());
+        taskIndex.remove(removed);
+        positions.remove(removed);
+        internalList.remove(index);
     }
 
     /**
@@ -81,18 +113,116 @@ public class TaskList implements Iterable<Task> {
     public void edit(Task toEdit, Task editedTask) {
         requireAllNonNull(toEdit, editedTask);
 
-        int index = internalList.indexOf(toEdit);
-        if (index == -1) {
-            throw new TaskNotFoundException();
-        }
-
+        int index = indexOf(toEdit);
+        Task target = internalList.get(index);
         if (!toEdit.isSameTask(editedTask) && contains(editedTask)) {
             throw new DuplicateTaskException();
         }
+        if (isIdTaken(editedTask, target)) {
+            throw new DuplicateTaskIdException();
+        }
 
+        nameIndex.remove(toEdit.getName());
+        nameIndex.put(editedTask.getName(), editedTask);
+        idIndex.remove(target.getId());
+        putId(editedTask);
+        taskIndex.remove(target);
+        taskIndex.add(editedTask);
+        positions.remove(target);
+        positions.put(editedTask, index);
         internalList.set(index, editedTask);
     }
 
+    /**
+     * Replaces each task in the list that is a key of {@code edits} with its value, finding each of them by its
+     * position instead of scanning the list. Every key of {@code edits} must exist in the list, and each value must
+     * have the same name and ID as its key, so the positions of the tasks stay the same. No task is replaced if any
+     * key is missing.
+     *
+     * @param edits Tasks to be replaced, mapped to the tasks replacing them
+     */
+    public void editAll(Map<Task, Task> edits) {
+        requireAllNonNull(edits.keySet());
+        requireAllNonNull(edits.values());
+        edits.forEach((task, editedTask) ->
+                checkArgument(task.isSameTask(editedTask) && task.getId() == editedTask.getId()));
+        Map<Task, Integer> indexes = new IdentityHashMap<>();
+        for (Task task : edits.keySet()) {
+            indexes.put(task, indexOf(task));
+        }
+        edits.forEach((task, editedTask) -> {
+            int index = indexes.get(task);
+            Task target = internalList.get(index);
+            nameIndex.put(editedTask.getName(), editedTask);
+            putId(editedTask);
+            taskIndex.remove(target);
+            taskIndex.add(editedTask);
+            internalList.set(index, editedTask);
+        });
+    }
+
+    /**
+     * Replaces the tasks in the list from position {@code from} with {@code added}, such as to replay a change
+     * recorded from the list. The tasks replaced must be equal to {@code removed} and have the same ids, so that a
+     * change is never replayed onto a list in a different state than it was recorded from. No task may be added that
+     * is the same as another existing task, or that has the id of one.
+     *
+     * @param from    position of the first task to be replaced
+     * @param removed tasks expected at that position, in order
+     * @param added   tasks to replace them, in order
+     * @throws TaskNotFoundException if the tasks from position {@code from} are not {@code removed}
+     */
+    public void replace(int from, List<Task> removed, List<Task> added) {
+        requireAllNonNull(removed);
+        requireAllNonNull(added);
+        int removedCount = removed.size();
+        if (from < 0 || from + removedCount > internalList.size()) {
+            throw new TaskNotFoundException();
+        }
+        for (int i = 0; i < removedCount; i++) {
+            Task task = internalList.get(from + i);
+            if (!task.equals(removed.get(i)) || task.getId() != removed.get(i).getId()) {
+                throw new TaskNotFoundException();
+            }
+        }
+
+        List<Task> replaced = internalList.subList(from, from + removedCount);
+        Set<Task> removedTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedTasks.addAll(replaced);
+        for (Task task : added) {
+            Task sameTask = nameIndex.get(task.getName());
+            if (sameTask != null && !removedTasks.contains(sameTask)) {
+                throw new DuplicateTaskException();
+            }
+            Task sameIdTask = idIndex.get(task.getId());
+            if (sameIdTask != null && !removedTasks.contains(sameIdTask)) {
+                throw new DuplicateTaskIdException();
+            }
+        }
+
+        for (Task task : replaced) {
+            nameIndex.remove(task.getName());
+            idIndex.remove(task.getId());
+            taskIndex.remove(task);
+            positions.remove(task);
+        }
+        for (int i = 0; i < added.size(); i++) {
+            Task task = added.get(i);
+            nameIndex.put(task.getName(), task);
+            putId(task);
+            taskIndex.add(task);
+            positions.put(task, from + i);
+        }
+        if (removedCount == added.size()) {
+            for (int i = 0; i < removedCount; i++) {
+                internalList.set(from + i, added.get(i));
+            }
+        } else {
+            replaced.clear();
+            internalList.addAll(from, added);
+        }
+    }
+
     /**
      * Returns a Task from the list which corresponds with {@code toFind}.
      * {@code toFind} must exist in the list.
@@ -102,10 +232,61 @@ public class TaskList implements Iterable<Task> {
      */
     public Task find(Task toFind) {
         requireNonNull(toFind);
-        if (!contains(toFind)) {
+        Task found = nameIndex.get(toFind.getName());
+        if (found == null) {
             throw new TaskNotFoundException();
         }
-        return internalList.get(internalList.indexOf(toFind));
+        return found;
+    }
+
+    /**
+     * Returns the task in the list with the given {@code id}, if any.
+     *
+     * @param id the id of the task to find
+     * @return the task with the given id, or an empty {@code Optional} if there is none
+     */
+    public Optional<Task> getById(long id) {
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks with any of {@code keywords} as a word of their name or
+     * description, ignoring case. The tasks are looked up in an inverted index of the words instead of scanning the
+     * list, and match the same tasks as {@link TaskContainsKeywordsPredicate}.
+     *
+     * @param keywords Keywords to find
+     * @return the tasks containing any of {@code keywords}
+     */
+    public Set<Task> findByKeywords(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return taskIndex.withAnyWord(keywords);
+    }
+
+    /**
+     * Returns the words in the names and descriptions of the tasks that are spelt like any of {@code keywords},
+     * ignoring case. The words are found through an index of their trigrams, so that a misspelt keyword can be
+     * corrected without comparing it against every word. Finding the tasks with the returned words is a fuzzy search
+     * for {@code keywords}.
+     *
+     * @param keywords Keywords that may be misspelt
+     * @return the words within a small edit distance of any of {@code keywords}, in lower case
+     */
+    public List<String> findSimilarWords(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return taskIndex.similarWords(keywords);
+    }
+
+    /**
+     * Returns the relevance of the tasks found by {@link #findByKeywords(List)} for {@code keywords}, scored with
+     * BM25 over their names and descriptions. A keyword in the name of a task counts more than one in its
+     * description.
+     *
+     * @param keywords Keywords to rank the tasks by
+     * @return a map from each task containing any of {@code keywords} to its score, which compares tasks by identity
+     */
+    public Map<Task, Double> rankByKeywords(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return taskIndex.score(keywords);
     }
 
     /**
@@ -144,62 +325,161 @@ public class TaskList implements Iterable<Task> {
     }
 
     /**
-     * Filters the task list based on the given Priority {@code toFilter}.
+     * Returns a live, unmodifiable view of the tasks with the given Priority {@code toFilter}.
      *
      * @param toFilter Priority to filter the task list by
+     * @return the tasks with priority {@code toFilter}
      */
-    public void filter(Priority toFilter) {
+    public Set<Task> filter(Priority toFilter) {
         requireNonNull(toFilter);
-        Predicate<Task> filterer = i -> (i.getPriority().equals(toFilter));
-        internalList.filtered(filterer);
+        return taskIndex.withPriority(toFilter.getPriority());
     }
 
     /**
-     * Filters the task list based on the given Category {@code toFilter}.
+     * Returns a live, unmodifiable view of the tasks with the given Category {@code toFilter}.
      *
      * @param toFilter Category to filter the task list by
+     * @return the tasks with category {@code toFilter}
      */
-    public void filter(TaskCategory toFilter) {
+    public Set<Task> filter(TaskCategory toFilter) {
         requireNonNull(toFilter);
-        Predicate<Task> filterer = i -> (i.getCategory().equals(toFilter));
-        internalList.filtered(filterer);
+        return taskIndex.withCategory(toFilter.getTaskCategoryType());
     }
 
     /**
-     * Filters the task list based on the given Deadline {@code toFilter}.
+     * Returns a live, unmodifiable view of the tasks with the given Deadline {@code toFilter}.
      *
      * @param toFilter Deadline to filter the task list by
+     * @return the tasks with deadline {@code toFilter}
+     */
+    public Set<Task> filter(TaskDeadline toFilter) {
+        requireNonNull(toFilter);
+        long day = toFilter.getDeadline().toEpochDay();
+        return taskIndex.withDeadlineBetween(day, day);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks with a deadline in the given range {@code toFilter}.
+     *
+     * @param toFilter Range of deadlines to filter the task list by
+     * @return the tasks with a deadline in {@code toFilter}
      */
-    public void filter(TaskDeadline toFilter) {
+    public Set<Task> filter(TaskDateRange toFilter) {
         requireNonNull(toFilter);
-        Predicate<Task> filterer = i -> (i.getDeadline().equals(toFilter));
-        internalList.filtered(filterer);
+        return taskIndex.withDeadlineIn(toFilter);
     }
 
     /**
-     * Filters the task list based on the given assigned Person {@code toFilter}.
+     * Returns a live, unmodifiable view of the tasks assigned to the given Person {@code toFilter}, looked up by
+     * email in the assignee index, which is updated as tasks are added, edited, reassigned and deleted.
      *
      * @param toFilter Person to filter the task list by
+     * @return the tasks assigned to {@code toFilter}
      */
-    public void filter(Person toFilter) {
+    public Set<Task> filter(Person toFilter) {
         requireNonNull(toFilter);
-        Predicate<Task> filterer = i -> (i.getPerson().equals(toFilter));
-        internalList.filtered(filterer);
+        return taskIndex.assignedTo(toFilter.getEmail());
     }
 
     /**
-     * Filters the task list based on the given Status {@code toFilter}.
+     * Returns a live, unmodifiable view of the tasks with the given Status {@code toFilter}.
      *
      * @param toFilter Status to filter the task list by
+     * @return the tasks that are done if {@code toFilter} is true, and the tasks that are not done otherwise
+     */
+    public Set<Task> filter(boolean toFilter) {
+        return taskIndex.withStatus(toFilter);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks that match every one of the given criteria that is present,
+     * resolved by intersecting the indexed tasks of each criterion.
+     *
+     * @param category Category the tasks must have
+     * @param priority Priority the tasks must have
+     * @param deadline Range the deadlines of the tasks must be in
+     * @param isDone   Status the tasks must have
+     * @param assignee Person the tasks must be assigned to
+     * @return the tasks matching all present criteria, or every task if none are present
+     */
+    public Set<Task> filter(Optional<TaskCategory> category, Optional<Priority> priority,
+                            Optional<TaskDateRange> deadline, Optional<Boolean> isDone, Optional<Person> assignee) {
+        requireAllNonNull(category, priority, deadline, isDone, assignee);
+        List<Set<Task>> criteria = new ArrayList<>();
+        category.map(this::filter).ifPresent(criteria::add);
+        priority.map(this::filter).ifPresent(criteria::add);
+        deadline.map(this::filter).ifPresent(criteria::add);
+        isDone.map(this::filter).ifPresent(criteria::add);
+        assignee.map(this::filter).ifPresent(criteria::add);
+        return criteria.isEmpty() ? taskIndex.all() : TaskSets.intersect(criteria);
+    }
+
+    /**
+     * Returns up to {@code count} of the tasks that are not done, from the most urgent, in the order of
+     * {@link SortByUrgency}. The tasks are kept in order of urgency as they change, so this takes O(count) time
+     * instead of sorting the list.
+     *
+     * @param count Maximum number of tasks to return
+     * @return the most urgent tasks that are not done
+     */
+    public List<Task> getMostUrgent(int count) {
+        checkArgument(count >= 0, "Count cannot be negative");
+        return taskIndex.mostUrgent(count);
+    }
+
+    /**
+     * Materializes the tasks matching {@code predicate} as the view {@code name}, replacing any view with that
+     * name. Every later add, edit or delete tests the changed task against the predicate of each view once, instead
+     * of the views being recomputed over the whole list.
+     *
+     * @param name      Name of the view
+     * @param predicate Condition the tasks in the view must match
+     * @return a live, unmodifiable view of the tasks in the view
+     */
+    public Set<Task> materializeView(String name, Predicate<Task> predicate) {
+        requireAllNonNull(name, predicate);
+        return taskIndex.materialize(name, predicate);
+    }
+
+    /**
+     * Stops maintaining the view {@code name}, if there is one.
+     */
+    public void dematerializeView(String name) {
+        requireNonNull(name);
+        taskIndex.dematerialize(name);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks in the view {@code name}, if it has been materialized.
+     */
+    public Optional<Set<Task>> getView(String name) {
+        requireNonNull(name);
+        return taskIndex.materialized(name);
+    }
+
+    /**
+     * Returns a live predicate that tests whether a task matches {@code query}.
+     * The query is planned against the indexes of this list: only the tasks of its most selective indexed condition
+     * are candidates, and the other conditions are tested on the candidates alone. A filtered list given the
+     * predicate still tests every task in this list once, mostly by a lookup in the candidates.
+     *
+     * @param query Query to match the tasks against
+     * @return the predicate matching the tasks in this list that match {@code query}
      */
-    public void filter(boolean toFilter) {
-        Predicate<Task> filterer = i -> (i.isDone() == toFilter);
-        internalList.filtered(filterer);
+    public Predicate<Task> query(TaskQuery query) {
+        requireNonNull(query);
+        return query.plan(taskIndex).toPredicate();
     }
 
     public void setTasks(TaskList replacement) {
         requireNonNull(replacement);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
+        taskIndex.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        positions.reindex();
     }
 
     /**
@@ -210,11 +490,25 @@ public class TaskList implements Iterable<Task> {
      */
     public void setTasks(List<Task> tasks) {
         requireAllNonNull(tasks);
-        if (!tasksAreUnique(tasks)) {
-            throw new DuplicateTaskException();
-        }
-
+        Map<TaskName, Task> replacementIndex = indexByName(tasks);
+        Map<Long, Task> replacementIdIndex = indexById(tasks);
+
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        idIndex.clear();
+        idIndex.putAll(replacementIdIndex);
+        taskIndex.setAll(tasks);
         internalList.setAll(tasks);
+        positions.reindex();
+    }
+
+    /**
+     * Returns an immutable list of the tasks currently in the list, in constant time.
+     *
+     * @see CopyOnSnapshotList#snapshot()
+     */
+    public List<Task> snapshot() {
+        return backingList.snapshot();
     }
 
     /**
@@ -242,20 +536,56 @@ public class TaskList implements Iterable<Task> {
     }
 
     /**
-     * Returns true if {@code tasks} contains only unique tasks.
+     * Returns {@code tasks} indexed by their names.
+     * {@code tasks} must contain only unique tasks.
      *
-     * @param tasks List of tasks to check
-     * @return true if {@code tasks} contains only unique tasks.
-     */
-    private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+     * @param tasks List of tasks to index
+     * @return a map from each task's name to the task
+     * @throws DuplicateTaskException if two tasks in {@code tasks} are the same task
+     */
+    private Map<TaskName, Task> indexByName(List<Task> tasks) {
+        Map<TaskName, Task> index = new HashMap<>();
+        for (Task task : tasks) {
+            if (index.putIfAbsent(task.getName(), task) != null) {
+                throw new DuplicateTaskException();
+            }
+        }
+        return index;
+    }
+
+    private Map<Long, Task> indexById(List<Task> tasks) {
+        Map<Long, Task> index = new HashMap<>();
+        for (Task task : tasks) {
+            if (index.putIfAbsent(task.getId(), task) != null) {
+                throw new DuplicateTaskIdException();
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Returns the position in the list of the task equal to {@code task}, found through the position index.
+     *
+     * @throws TaskNotFoundException if there is no such task in the list
+     */
+    private int indexOf(Task task) {
+        int index = positions.indexOf(task.getName());
+        if (index == -1 || !internalList.get(index).equals(task)) {
+            throw new TaskNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Returns true if the id of {@code task} is held by a task in the list other than {@code replaced}.
+     */
+    private boolean isIdTaken(Task task, Task replaced) {
+        Task holder = idIndex.get(task.getId());
+        return holder != null && holder != replaced;
+    }
+
+    private void putId(Task task) {
+        idIndex.put(task.getId(), task);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.WordSet;
+
 /**
  * Represents the name of the task in the task list.
  * Guarantees: immutable; is valid as declared in {@link #isValidTaskName(String)}
@@ -19,6 +21,7 @@ public class TaskName {
     private static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     private final String taskName;
+    private final WordSet words;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +32,14 @@ public class TaskName {
         requireNonNull(name);
         checkArgument(isValidTaskName(name), MESSAGE_CONSTRAINTS);
         taskName = name;
+        words = WordSet.of(name);
+    }
+
+    /**
+     * Returns the words of the name in lower case.
+     */
+    public WordSet getWords() {
+        return words;
     }
 
     /**
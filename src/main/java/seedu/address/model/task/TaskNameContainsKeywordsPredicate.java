@@ -10,15 +10,19 @@ import seedu.address.commons.util.StringUtil;
  */
 public class TaskNameContainsKeywordsPredicate implements Predicate<Task> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * @param keywords keywords to match, each a single word
+     */
     public TaskNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCase(keywords);
     }
 
     @Override
     public boolean test(Task task) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getName().toString(), keyword));
+        return task.getName().getWords().containsAny(lowerCaseKeywords);
     }
 
     @Override
@@ -0,0 +1,323 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Email;
+
+/**
+ * Represents a condition on tasks, built from conditions on single fields combined with AND, OR and NOT.
+ * <p>
+ * A query is {@link #plan(TaskIndex) planned} against the indexes of a {@code TaskList} before it is evaluated. The
+ * plan looks up the tasks of the most selective condition that an index can answer, and tests only those tasks
+ * against the remaining conditions.
+ */
+public abstract class TaskQuery implements Predicate<Task> {
+
+    private static final TaskQuery ALL = new Condition("all tasks", task -> true, TaskIndex::all);
+
+    /**
+     * Returns the query matching every task.
+     */
+    public static TaskQuery all() {
+        return ALL;
+    }
+
+    /**
+     * Returns the query matching the tasks with {@code category}.
+     */
+    public static TaskQuery category(TaskCategory category) {
+        requireNonNull(category);
+        TaskCategoryType type = category.getTaskCategoryType();
+        return new Condition("category " + type, task -> task.getCategory().getTaskCategoryType() == type,
+                index -> index.withCategory(type));
+    }
+
+    /**
+     * Returns the query matching the tasks with {@code priority}.
+     */
+    public static TaskQuery priority(Priority priority) {
+        requireNonNull(priority);
+        PriorityEnum value = priority.getPriority();
+        return new Condition("priority " + value, task -> task.getPriority().getPriority() == value,
+                index -> index.withPriority(value));
+    }
+
+    /**
+     * Returns the query matching the tasks that are done if {@code isDone} is true, and the other tasks otherwise.
+     */
+    public static TaskQuery status(boolean isDone) {
+        return new Condition(isDone ? "done" : "not done", task -> task.isDone() == isDone,
+                index -> index.withStatus(isDone));
+    }
+
+    /**
+     * Returns the query matching the tasks assigned to the person with {@code email}.
+     */
+    public static TaskQuery assignee(Email email) {
+        requireNonNull(email);
+        return new Condition("assigned to " + email, task -> email.equals(task.getEmail()),
+                index -> index.assignedTo(email));
+    }
+
+    /**
+     * Returns the query matching the tasks with a deadline in {@code range}.
+     */
+    public static TaskQuery deadline(TaskDateRange range) {
+        requireNonNull(range);
+        return new Condition("deadline " + range, task -> range.contains(task.getDeadline().getDeadline()),
+                index -> index.withDeadlineIn(range));
+    }
+
+    /**
+     * Returns the query matching the tasks with {@code keyword} as a word of their name or description, ignoring
+     * case.
+     */
+    public static TaskQuery keyword(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseWord = keyword.trim().toLowerCase(Locale.ROOT);
+        checkArgument(lowerCaseWord.matches("\\S+"), "Keyword should be a single word");
+        return new Condition("\"" + lowerCaseWord + "\"",
+                task -> task.getName().getWords().contains(lowerCaseWord)
+                        || task.getDescription().getWords().contains(lowerCaseWord),
+                index -> index.withAnyWord(List.of(lowerCaseWord)));
+    }
+
+    /**
+     * Returns the query matching the tasks that match every one of {@code queries}, which must not be empty.
+     */
+    public static TaskQuery and(List<TaskQuery> queries) {
+        requireAllNonNull(queries);
+        checkArgument(!queries.isEmpty(), "At least one query must be given");
+        return queries.size() == 1 ? queries.get(0) : new Junction(true, queries);
+    }
+
+    /**
+     * Returns the query matching the tasks that match any of {@code queries}, which must not be empty.
+     */
+    public static TaskQuery or(List<TaskQuery> queries) {
+        requireAllNonNull(queries);
+        checkArgument(!queries.isEmpty(), "At least one query must be given");
+        return queries.size() == 1 ? queries.get(0) : new Junction(false, queries);
+    }
+
+    /**
+     * Returns the query matching the tasks that do not match {@code query}.
+     */
+    public static TaskQuery not(TaskQuery query) {
+        requireNonNull(query);
+        return new Negation(query);
+    }
+
+    /**
+     * Returns the plan to evaluate this query against the tasks in {@code index}.
+     */
+    abstract Plan plan(TaskIndex index);
+
+    /**
+     * How a query is evaluated: the candidate tasks looked up in an index, and the residual condition that the
+     * candidates are tested against. The candidates are a live view, so the plan follows later changes to the tasks.
+     */
+    static class Plan {
+        private final Set<Task> candidates;
+        private final int estimatedSize;
+        private final Predicate<Task> residual;
+
+        /**
+         * @param candidates    tasks that include every task matching the query
+         * @param estimatedSize an upper bound of the number of candidates
+         * @param residual      condition the candidates must pass, or null if every candidate matches the query
+         */
+        Plan(Set<Task> candidates, int estimatedSize, Predicate<Task> residual) {
+            this.candidates = candidates;
+            this.estimatedSize = estimatedSize;
+            this.residual = residual;
+        }
+
+        Set<Task> getCandidates() {
+            return candidates;
+        }
+
+        int getEstimatedSize() {
+            return estimatedSize;
+        }
+
+        boolean hasResidual() {
+            return residual != null;
+        }
+
+        /**
+         * Returns the predicate that tests a task against the plan. A filtered list still calls it once for every
+         * task, so the plan saves the cost of testing the conditions that an index answers, not the pass itself.
+         */
+        Predicate<Task> toPredicate() {
+            return residual == null ? candidates::contains : task -> candidates.contains(task) && residual.test(task);
+        }
+    }
+
+    /**
+     * A condition on a single field, which an index can answer exactly.
+     */
+    private static class Condition extends TaskQuery {
+        private final String description;
+        private final Predicate<Task> predicate;
+        private final Function<TaskIndex, Set<Task>> lookUp;
+
+        Condition(String description, Predicate<Task> predicate, Function<TaskIndex, Set<Task>> lookUp) {
+            this.description = description;
+            this.predicate = predicate;
+            this.lookUp = lookUp;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return predicate.test(task);
+        }
+
+        @Override
+        Plan plan(TaskIndex index) {
+            Set<Task> tasks = lookUp.apply(index);
+            return new Plan(tasks, tasks.size(), null);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Condition // instanceof handles nulls
+                    && description.equals(((Condition) other).description)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return description.hashCode();
+        }
+    }
+
+    /**
+     * The AND or OR of other queries.
+     */
+    private static class Junction extends TaskQuery {
+        private final boolean isAnd;
+        private final List<TaskQuery> queries;
+
+        Junction(boolean isAnd, List<TaskQuery> queries) {
+            this.isAnd = isAnd;
+            this.queries = List.copyOf(queries);
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return isAnd ? queries.stream().allMatch(query -> query.test(task))
+                    : queries.stream().anyMatch(query -> query.test(task));
+        }
+
+        /**
+         * Plans an AND by looking up the candidates of its most selective part, and testing them against the other
+         * parts. Plans an OR by looking up the union of the candidates of all of its parts.
+         */
+        @Override
+        Plan plan(TaskIndex index) {
+            List<Plan> plans = queries.stream().map(query -> query.plan(index)).collect(Collectors.toList());
+            if (isAnd) {
+                int mostSelective = 0;
+                for (int i = 1; i < plans.size(); i++) {
+                    if (plans.get(i).getEstimatedSize() < plans.get(mostSelective).getEstimatedSize()) {
+                        mostSelective = i;
+                    }
+                }
+                Plan chosen = plans.get(mostSelective);
+                List<Predicate<Task>> residuals = new ArrayList<>();
+                if (chosen.hasResidual()) {
+                    residuals.add(chosen.residual);
+                }
+                for (int i = 0; i < queries.size(); i++) {
+                    if (i != mostSelective) {
+                        residuals.add(queries.get(i));
+                    }
+                }
+                return new Plan(chosen.getCandidates(), chosen.getEstimatedSize(),
+                    task -> residuals.stream().allMatch(residual -> residual.test(task)));
+            }
+
+            List<Set<Task>> candidates = plans.stream().map(Plan::getCandidates).collect(Collectors.toList());
+            long estimatedSize = plans.stream().mapToLong(Plan::getEstimatedSize).sum();
+            boolean hasResidual = plans.stream().anyMatch(Plan::hasResidual);
+            return new Plan(TaskSets.union(candidates), (int) Math.min(estimatedSize, index.all().size()),
+                hasResidual ? this : null);
+        }
+
+        @Override
+        public String toString() {
+            return queries.stream()
+                    .map(query -> query instanceof Junction ? "(" + query + ")" : query.toString())
+                    .collect(Collectors.joining(isAnd ? " AND " : " OR "));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Junction // instanceof handles nulls
+                    && isAnd == ((Junction) other).isAnd
+                    && queries.equals(((Junction) other).queries)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(isAnd, queries);
+        }
+    }
+
+    /**
+     * The NOT of another query. No index answers it, so it is planned as a scan of every task.
+     */
+    private static class Negation extends TaskQuery {
+        private final TaskQuery query;
+
+        Negation(TaskQuery query) {
+            this.query = query;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return !query.test(task);
+        }
+
+        @Override
+        Plan plan(TaskIndex index) {
+            Set<Task> tasks = index.all();
+            return new Plan(tasks, tasks.size(), this);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + (query instanceof Junction ? "(" + query + ")" : query.toString());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Negation // instanceof handles nulls
+                    && query.equals(((Negation) other).query)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.model.task;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Live set views and buckets shared by the indexes of a {@code TaskList}.
+ * <p>
+ * Tasks are kept in identity sets, which hash a task without reading its fields, as the indexes only ever hold the
+ * instances in the task list.
+ */
+class TaskSets {
+
+    /**
+     * Returns a live view of the tasks that are in all of {@code sets}, which must not be empty.
+     * Membership is checked against every set, while iteration walks the smallest set and skips the tasks missing
+     * from the others.
+     */
+    static Set<Task> intersect(List<Set<Task>> sets) {
+        return sets.size() == 1 ? sets.get(0) : new Intersection(sets);
+    }
+
+    /**
+     * Returns a live view of the tasks that are in any of {@code sets}.
+     * Iteration walks each set in turn and skips the tasks already returned from an earlier set.
+     */
+    static Set<Task> union(List<Set<Task>> sets) {
+        return sets.size() == 1 ? sets.get(0) : new Union(sets);
+    }
+
+    /**
+     * Returns an unmodifiable view of the set for {@code key}, which follows later changes to the index even if the
+     * set does not exist yet.
+     */
+    static <K> Set<Task> view(Map<K, Set<Task>> index, K key) {
+        return new AbstractSet<>() {
+            @Override
+            public boolean contains(Object o) {
+                Set<Task> tasks = index.get(key);
+                return tasks != null && tasks.contains(o);
+            }
+
+            @Override
+            public Iterator<Task> iterator() {
+                return Collections.unmodifiableSet(index.getOrDefault(key, Collections.emptySet())).iterator();
+            }
+
+            @Override
+            public int size() {
+                return index.getOrDefault(key, Collections.emptySet()).size();
+            }
+        };
+    }
+
+    /**
+     * Returns the set for {@code key}, creating an empty identity set for it if there is none.
+     */
+    static <K> Set<Task> bucket(Map<K, Set<Task>> index, K key) {
+        return index.computeIfAbsent(key, unused -> newIdentitySet());
+    }
+
+    /**
+     * Removes {@code task} from the set for {@code key}, and the set from {@code index} once it is empty.
+     */
+    static <K> void unbucket(Map<K, Set<Task>> index, K key, Task task) {
+        Set<Task> tasks = index.get(key);
+        tasks.remove(task);
+        if (tasks.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    static Set<Task> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A live intersection of sets of tasks.
+     */
+    private static class Intersection extends AbstractSet<Task> {
+        private final List<Set<Task>> sets;
+
+        Intersection(List<Set<Task>> sets) {
+            this.sets = sets;
+        }
+
+        /**
+         * Checks each set in a plain loop, as a filtered list calls this once for every task.
+         */
+        @Override
+        public boolean contains(Object o) {
+            for (Set<Task> set : sets) {
+                if (!set.contains(o)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Iterator<Task> iterator() {
+            return smallest().stream().filter(this::contains).iterator();
+        }
+
+        @Override
+        public int size() {
+            return (int) smallest().stream().filter(this::contains).count();
+        }
+
+        private Set<Task> smallest() {
+            return sets.stream().min(Comparator.comparingInt(Set::size)).orElseThrow();
+        }
+    }
+
+    /**
+     * A live union of sets of tasks.
+     */
+    private static class Union extends AbstractSet<Task> {
+        private final List<Set<Task>> sets;
+
+        Union(List<Set<Task>> sets) {
+            this.sets = sets;
+        }
+
+        /**
+         * Checks each set in a plain loop, as a filtered list calls this once for every task.
+         */
+        @Override
+        public boolean contains(Object o) {
+            for (Set<Task> set : sets) {
+                if (set.contains(o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Iterates over each set in turn, skipping the tasks already returned from an earlier set.
+         */
+        @Override
+        public Iterator<Task> iterator() {
+            return IntStream.range(0, sets.size()).boxed()
+                    .flatMap(i -> sets.get(i).stream()
+                            .filter(task -> sets.subList(0, i).stream().noneMatch(set -> set.contains(task))))
+                    .iterator();
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (Iterator<Task> it = iterator(); it.hasNext(); it.next()) {
+                size++;
+            }
+            return size;
+        }
+    }
+}
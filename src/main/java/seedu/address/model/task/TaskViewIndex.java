@@ -0,0 +1,96 @@
+package seedu.address.model.task;
+
+import static seedu.address.model.task.TaskSets.view;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Named views of the tasks in a {@code TaskList} that match a predicate, materialized as sets that are updated as
+ * each task is added, updated or removed, so switching to a view never re-evaluates its predicate over every task on
+ * the same day. A view is materialized again the first time it is looked up on a later day, as its predicate may
+ * depend on the date.
+ */
+class TaskViewIndex {
+
+    private final Set<Task> allTasks;
+    private final Map<String, Predicate<Task>> viewPredicates = new HashMap<>();
+    private final Map<String, Set<Task>> byView = new HashMap<>();
+    /** The day on which each view was last evaluated over every task. */
+    private final Map<String, LocalDate> viewDates = new HashMap<>();
+
+    /**
+     * @param allTasks live view of every task, which a view is evaluated over when it is materialized
+     */
+    TaskViewIndex(Set<Task> allTasks) {
+        this.allTasks = allTasks;
+    }
+
+    /**
+     * Adds {@code task} to the views it matches.
+     */
+    void add(Task task) {
+        viewPredicates.forEach((name, predicate) -> {
+            if (predicate.test(task)) {
+                byView.get(name).add(task);
+            }
+        });
+    }
+
+    /**
+     * Removes {@code task} from every view.
+     */
+    void remove(Task task) {
+        byView.values().forEach(tasks -> tasks.remove(task));
+    }
+
+    /**
+     * Empties every view, which counts as evaluating it today, so that the tasks added next fill it again.
+     */
+    void clear() {
+        byView.values().forEach(Set::clear);
+        viewDates.replaceAll((name, date) -> LocalDate.now());
+    }
+
+    /**
+     * Materializes the tasks matching {@code predicate} as the view {@code name}, replacing any view with that name.
+     * The view is kept up to date as tasks change, testing each changed task against {@code predicate} once.
+     *
+     * @return a live, unmodifiable view of the tasks in the view
+     */
+    Set<Task> materialize(String name, Predicate<Task> predicate) {
+        Set<Task> tasks = TaskSets.newIdentitySet();
+        allTasks.stream().filter(predicate).forEach(tasks::add);
+        viewPredicates.put(name, predicate);
+        byView.put(name, tasks);
+        viewDates.put(name, LocalDate.now());
+        return view(byView, name);
+    }
+
+    /**
+     * Stops maintaining the view {@code name}, if there is one.
+     */
+    void dematerialize(String name) {
+        viewPredicates.remove(name);
+        byView.remove(name);
+        viewDates.remove(name);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks in the view {@code name}, if it has been materialized. A view
+     * last evaluated on an earlier day is materialized again first.
+     */
+    Optional<Set<Task>> materialized(String name) {
+        if (!byView.containsKey(name)) {
+            return Optional.empty();
+        }
+        if (!LocalDate.now().equals(viewDates.get(name))) {
+            materialize(name, viewPredicates.get(name));
+        }
+        return Optional.of(view(byView, name));
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.model.task;
+
+import static seedu.address.model.task.TaskSets.bucket;
+import static seedu.address.model.task.TaskSets.unbucket;
+import static seedu.address.model.task.TaskSets.view;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.util.WordSet;
+
+/**
+ * An inverted index from the words in the names and descriptions of the tasks in a {@code TaskList} to the tasks.
+ * <p>
+ * The total length of the names and descriptions is kept with the index, and the term frequencies and length of
+ * each task are read off the {@code WordSet} of its fields, so keyword searches can be ranked with BM25 without
+ * rescanning the tasks. Keywords are split the same way, so the index never splits a field itself. Words in names
+ * weigh {@link #NAME_WEIGHT} times as much as words in descriptions.
+ * <p>
+ * The distinct words are also kept in a {@link WordTrigramIndex}, so that misspelt keywords can be matched.
+ */
+class TaskWordIndex {
+
+    static final double NAME_WEIGHT = 3;
+    static final double DESCRIPTION_WEIGHT = 1;
+
+    /** Controls how quickly repeated occurrences of a word stop adding to its score. */
+    private static final double BM25_K1 = 1.2;
+    /** Controls how much the score of a word is lowered in longer names and descriptions. */
+    private static final double BM25_B = 0.75;
+
+    private final Map<String, Set<Task>> byWord = new HashMap<>();
+    private final WordTrigramIndex vocabulary = new WordTrigramIndex();
+    private int taskCount;
+    private double totalLength;
+
+    /**
+     * Indexes {@code task}, which must not already be indexed.
+     */
+    void add(Task task) {
+        for (String word : wordsOf(task)) {
+            if (!byWord.containsKey(word)) {
+                vocabulary.add(word);
+            }
+            bucket(byWord, word).add(task);
+        }
+        taskCount++;
+        totalLength += lengthOf(task);
+    }
+
+    /**
+     * Removes {@code task}, which must be indexed, from the index.
+     */
+    void remove(Task task) {
+        for (String word : wordsOf(task)) {
+            unbucket(byWord, word, task);
+            if (!byWord.containsKey(word)) {
+                vocabulary.remove(word);
+            }
+        }
+        taskCount--;
+        totalLength -= lengthOf(task);
+    }
+
+    void clear() {
+        byWord.clear();
+        vocabulary.clear();
+        taskCount = 0;
+        totalLength = 0;
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks with any of {@code words} in their name or description, ignoring
+     * case. The view is the union of the posting lists of the words.
+     */
+    Set<Task> withAnyWord(List<String> words) {
+        List<Set<Task>> postings = new ArrayList<>();
+        for (String word : words) {
+            for (String lowerCaseWord : WordSet.of(word).words()) {
+                postings.add(view(byWord, lowerCaseWord));
+            }
+        }
+        return TaskSets.union(postings);
+    }
+
+    /**
+     * Returns the words in the names and descriptions of the tasks that are within a small edit distance of any of
+     * {@code words}, ignoring case.
+     *
+     * @see WordTrigramIndex#similarWords(String)
+     */
+    List<String> similarWords(List<String> words) {
+        Set<String> similarWords = new LinkedHashSet<>();
+        for (String word : words) {
+            for (String keyword : WordSet.of(word).words()) {
+                similarWords.addAll(vocabulary.similarWords(keyword));
+            }
+        }
+        return new ArrayList<>(similarWords);
+    }
+
+    /**
+     * Returns the BM25 scores of the tasks with any of {@code words} in their name or description, ignoring case.
+     * Only the tasks in the posting lists of the words are scored.
+     *
+     * @return a map from each matching task to its score, which compares tasks by identity
+     */
+    Map<Task, Double> score(List<String> words) {
+        Set<String> terms = new HashSet<>();
+        for (String word : words) {
+            terms.addAll(WordSet.of(word).words());
+        }
+
+        Map<Task, Double> scores = new IdentityHashMap<>();
+        double averageLength = totalLength / taskCount;
+        for (String term : terms) {
+            Set<Task> posting = byWord.get(term);
+            if (posting == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (taskCount - posting.size() + 0.5) / (posting.size() + 0.5));
+            for (Task task : posting) {
+                double termFrequency = NAME_WEIGHT * task.getName().getWords().count(term)
+                        + DESCRIPTION_WEIGHT * task.getDescription().getWords().count(term);
+                double lengthNorm = BM25_K1 * (1 - BM25_B + BM25_B * lengthOf(task) / averageLength);
+                scores.merge(task, idf * termFrequency * (BM25_K1 + 1) / (termFrequency + lengthNorm), Double::sum);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the distinct words in the name and description of {@code task}.
+     */
+    private static Set<String> wordsOf(Task task) {
+        Set<String> words = new HashSet<>(task.getName().getWords().words());
+        words.addAll(task.getDescription().getWords().words());
+        return words;
+    }
+
+    /**
+     * Returns the number of words in the name and description of {@code task}, weighted by the field they are in.
+     */
+    private static double lengthOf(Task task) {
+        return NAME_WEIGHT * task.getName().getWords().length()
+                + DESCRIPTION_WEIGHT * task.getDescription().getWords().length();
+    }
+}
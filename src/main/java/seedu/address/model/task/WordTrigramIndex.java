@@ -0,0 +1,95 @@
+package seedu.address.model.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of distinct words by their trigrams, so misspelt keywords can be matched against the words that share
+ * enough trigrams with them instead of against every word. Only those candidates are checked with a bounded edit
+ * distance.
+ */
+class WordTrigramIndex {
+
+    /** Padding added around a word before it is split into trigrams, so that its first and last letters count. */
+    private static final char TRIGRAM_PADDING = ' ';
+    private static final int MAX_LENGTH_FOR_EXACT_MATCH = 2;
+    private static final int MAX_LENGTH_FOR_ONE_EDIT = 5;
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Indexes {@code word}, which must not already be indexed.
+     */
+    void add(String word) {
+        for (String trigram : trigramsOf(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from the index.
+     */
+    void remove(String word) {
+        for (String trigram : trigramsOf(word)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    void clear() {
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the indexed words that are within a small edit distance of {@code keyword}, which must be in lower
+     * case. Words of up to {@value #MAX_LENGTH_FOR_ONE_EDIT} letters may be one edit away and longer words two edits
+     * away, while words of {@value #MAX_LENGTH_FOR_EXACT_MATCH} letters or fewer must match exactly.
+     * <p>
+     * An edit changes at most three trigrams of a word, so only the words sharing enough trigrams with the keyword
+     * are checked. The words matched must share at least one trigram with the keyword.
+     */
+    List<String> similarWords(String keyword) {
+        int maxEdits = keyword.length() <= MAX_LENGTH_FOR_EXACT_MATCH ? 0
+                : keyword.length() <= MAX_LENGTH_FOR_ONE_EDIT ? 1 : 2;
+        Set<String> keywordTrigrams = trigramsOf(keyword);
+        int minSharedTrigrams = Math.max(1, keywordTrigrams.size() - 3 * maxEdits);
+
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : keywordTrigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigrams.merge(word, 1, Integer::sum);
+            }
+        }
+
+        List<String> similarWords = new ArrayList<>();
+        sharedTrigrams.forEach((word, shared) -> {
+            if (shared >= minSharedTrigrams && StringUtil.isWithinEditDistance(keyword, word, maxEdits)) {
+                similarWords.add(word);
+            }
+        });
+        return similarWords;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} padded on both sides.
+     */
+    private static Set<String> trigramsOf(String word) {
+        String padded = TRIGRAM_PADDING + word + TRIGRAM_PADDING;
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
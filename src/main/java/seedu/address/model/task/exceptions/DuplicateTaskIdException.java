@@ -0,0 +1,10 @@
+package seedu.address.model.task.exceptions;
+
+/**
+ * Signals that the operation will result in two different Tasks with the same ID.
+ */
+public class DuplicateTaskIdException extends RuntimeException {
+    public DuplicateTaskIdException() {
+        super("Operation would result in different tasks with the same ID");
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.model.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An array-backed list that can take an immutable snapshot of itself in constant time.
+ * <p>
+ * A snapshot shares the backing array of this list. The array is only copied by the first change to this list after
+ * a snapshot is taken, so any number of snapshots taken between two changes cost one copy in total. Since the shared
+ * array is never written to again, a snapshot can be read on any thread without locking while this list keeps
+ * changing.
+ * <p>
+ * This list itself is not thread-safe, so it should only be changed on one thread.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class CopyOnSnapshotList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private Object[] elements = new Object[DEFAULT_CAPACITY];
+    private int size;
+
+    /** The snapshot sharing {@code elements}, or null if {@code elements} is not shared. */
+    private List<E> snapshot;
+
+    /**
+     * Returns an immutable list of the elements currently in this list, which does not change when this list does.
+     */
+    public List<E> snapshot() {
+        if (snapshot == null) {
+            snapshot = new Snapshot<>(elements, size);
+        }
+        return snapshot;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        prepareWrite(size);
+        E previous = (E) elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        prepareWrite(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        prepareWrite(size);
+        E removed = (E) elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        if (snapshot != null) {
+            elements = new Object[DEFAULT_CAPACITY];
+            snapshot = null;
+        } else {
+            Arrays.fill(elements, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Makes sure {@code elements} holds at least {@code capacity} elements and is not shared with a snapshot.
+     */
+    private void prepareWrite(int capacity) {
+        if (snapshot != null) {
+            elements = Arrays.copyOf(elements, Math.max(capacity, elements.length));
+            snapshot = null;
+        } else if (capacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(capacity, elements.length + (elements.length >> 1)));
+        }
+    }
+
+    /**
+     * An immutable view of the first {@code size} elements of an array that is no longer written to.
+     */
+    private static class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[] elements;
+        private final int size;
+
+        Snapshot(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The sequence that persons and tasks draw their ids from. There is one sequence for the whole app, so no two persons
+ * or tasks share an id, whichever address books they are added to.
+ * An id given explicitly, such as one loaded from storage, is reserved, so it is never drawn for another person or
+ * task.
+ */
+public class IdSequence {
+
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    private IdSequence() {}
+
+    /**
+     * Returns an id that has not been drawn or reserved before.
+     */
+    public static long next() {
+        return NEXT_ID.getAndIncrement();
+    }
+
+    /**
+     * Makes sure {@code id} and every id before it are never drawn.
+     */
+    public static void reserve(long id) {
+        NEXT_ID.accumulateAndGet(id + 1, Math::max);
+    }
+}
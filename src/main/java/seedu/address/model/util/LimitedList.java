@@ -0,0 +1,147 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A live view of the first elements of an observable list, up to a limit.
+ * <p>
+ * As the source list changes, elements that fall within the limit take the place of those that move out of it, so
+ * the view is refilled from the source instead of shrinking. While there is no limit, the changes to the source are
+ * passed through as they are. While there is a limit, each change to the source is reported as the replacement of
+ * the elements in view, which costs O(k) for a limit of k.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class LimitedList<E> extends TransformationList<E, E> {
+
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private int limit = NO_LIMIT;
+    /** The elements in view as of the last change, kept only while there is a limit. */
+    private List<E> shown = List.of();
+
+    /**
+     * Creates a {@code LimitedList} of all the elements of {@code source}, until a limit is set.
+     */
+    public LimitedList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Shows only the first {@code limit} elements of the source, or all of them if {@code limit} is
+     * {@link #NO_LIMIT}.
+     *
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     */
+    public void setLimit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        if (limit == this.limit) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(this);
+        this.limit = limit;
+        List<E> added = new ArrayList<>(this);
+        shown = limit == NO_LIMIT ? List.of() : added;
+        fireReplaced(removed, added.size());
+    }
+
+    @Override
+    public int size() {
+        return Math.min(limit, getSource().size());
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        @SuppressWarnings("unchecked")
+        E element = (E) getSource().get(index);
+        return element;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index < size() ? index : -1;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        if (limit != NO_LIMIT) {
+            List<E> removed = shown;
+            shown = new ArrayList<>(this);
+            if (!isSameElements(removed, shown)) {
+                fireReplaced(removed, shown.size());
+            }
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(change.getFrom(), change.getTo(), new ArrayList<>(change.getRemoved()));
+            } else if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), new ArrayList<>(change.getRemoved()));
+            } else {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Reports that {@code removed} were replaced by the first {@code addedCount} elements in view.
+     */
+    private void fireReplaced(List<E> removed, int addedCount) {
+        if (removed.isEmpty() && addedCount == 0) {
+            return;
+        }
+        beginChange();
+        if (removed.isEmpty()) {
+            nextAdd(0, addedCount);
+        } else if (addedCount == 0) {
+            nextRemove(0, removed);
+        } else {
+            nextReplace(0, addedCount, removed);
+        }
+        endChange();
+    }
+
+    private static <E> boolean isSameElements(List<E> list, List<E> other) {
+        if (list.size() != other.size()) {
+            return false;
+        }
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) != other.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The positions of the elements of a list, by a key that is unique among them, so that an element can be found in
+ * the list without scanning it.
+ * <p>
+ * Positions are recorded as elements are added or replaced, and checked against the list when they are looked up.
+ * Inserting or removing an element shifts the elements after it, which already costs a copy of that part of the list.
+ * The positions of those elements are not updated then, but re-recorded in a single pass by the first lookup that
+ * finds a shifted position, so that any number of lookups between two shifts cost one pass in total.
+ *
+ * @param <K> the type of the keys of the elements
+ * @param <E> the type of the elements
+ */
+public class PositionIndex<K, E> {
+
+    private final List<E> list;
+    private final Function<? super E, ? extends K> keyMapper;
+    private final Map<K, Integer> positions = new HashMap<>();
+
+    /**
+     * Creates a {@code PositionIndex} of the elements of {@code list}, which are keyed by {@code keyMapper}.
+     */
+    public PositionIndex(List<E> list, Function<? super E, ? extends K> keyMapper) {
+        requireAllNonNull(list, keyMapper);
+        this.list = list;
+        this.keyMapper = keyMapper;
+    }
+
+    /**
+     * Records that {@code element} is at {@code position} of the list.
+     */
+    public void put(E element, int position) {
+        positions.put(keyMapper.apply(element), position);
+    }
+
+    /**
+     * Forgets the position of {@code element}, which has been removed from the list.
+     */
+    public void remove(E element) {
+        positions.remove(keyMapper.apply(element));
+    }
+
+    /**
+     * Returns the position in the list of the element with the given {@code key}, or -1 if there is none.
+     */
+    public int indexOf(K key) {
+        Integer position = positions.get(key);
+        if (position == null) {
+            return -1;
+        }
+        if (!isAt(key, position)) {
+            reindex();
+            position = positions.get(key);
+        }
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Records the positions of all elements of the list, such as after the whole list is replaced.
+     */
+    public void reindex() {
+        positions.clear();
+        for (int i = 0; i < list.size(); i++) {
+            positions.put(keyMapper.apply(list.get(i)), i);
+        }
+    }
+
+    private boolean isAt(K key, int position) {
+        return position < list.size() && key.equals(keyMapper.apply(list.get(position)));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * The distinct words of a text field in lower case, split once when the field is created so that keyword searches
+ * need neither split the field nor change its case again. The number of times each word occurs and the number of
+ * words in the field are kept with them, so that searches can rank fields without splitting them either.
+ * Guarantees: immutable.
+ */
+public class WordSet {
+
+    /** Occurrences of each distinct word, in the order the words first occur. */
+    private final Map<String, Integer> counts;
+    private final int length;
+
+    private WordSet(Map<String, Integer> counts, int length) {
+        this.counts = counts;
+        this.length = length;
+    }
+
+    /**
+     * Returns the words of {@code text}, as split by {@link StringUtil#toLowerCaseWords(String)}.
+     */
+    public static WordSet of(String text) {
+        requireNonNull(text);
+        List<String> words = StringUtil.toLowerCaseWords(text);
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        words.forEach(word -> counts.merge(word, 1, Integer::sum));
+        return new WordSet(Collections.unmodifiableMap(counts), words.size());
+    }
+
+    /**
+     * Returns true if {@code lowerCaseWord} is one of the words.
+     */
+    public boolean contains(String lowerCaseWord) {
+        return counts.containsKey(lowerCaseWord);
+    }
+
+    /**
+     * Returns true if any of {@code lowerCaseWords} is one of the words.
+     */
+    public boolean containsAny(List<String> lowerCaseWords) {
+        for (String word : lowerCaseWords) {
+            if (counts.containsKey(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct words, in the order they first occur.
+     */
+    public Set<String> words() {
+        return counts.keySet();
+    }
+
+    /**
+     * Returns the number of times {@code lowerCaseWord} occurs, which is 0 if it is not one of the words.
+     */
+    public int count(String lowerCaseWord) {
+        return counts.getOrDefault(lowerCaseWord, 0);
+    }
+
+    /**
+     * Returns the number of words, counting each occurrence of a repeated word.
+     */
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return counts.keySet().toString();
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates {@code AddressBookStorage} for each {@link AddressBookFormat} and converts data files between them.
+ * Both formats store every field of the model, so converting back and forth does not lose data.
+ */
+public class AddressBookFormatConverter {
+
+    /**
+     * Returns an {@code AddressBookStorage} that stores data at {@code filePath} in {@code format}.
+     */
+    public static AddressBookStorage createStorage(AddressBookFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Reads the data file at {@code sourcePath} in {@code sourceFormat} and saves it to {@code targetPath} in
+     * {@code targetFormat}, overwriting any existing file.
+     *
+     * @throws NoSuchFileException if there is no file at {@code sourcePath}.
+     * @throws DataConversionException if the source file is not in {@code sourceFormat}.
+     */
+    public static void convert(Path sourcePath, AddressBookFormat sourceFormat,
+                               Path targetPath, AddressBookFormat targetFormat)
+            throws DataConversionException, IOException {
+        AddressBookStorage source = createStorage(sourceFormat, sourcePath);
+        AddressBookStorage target = createStorage(targetFormat, targetPath);
+
+        ReadOnlyAddressBook addressBook = source.readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(sourcePath.toString()));
+        target.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the data file at {@code filePath} to {@code format} in place if it is stored in the other format, such
+     * as after the format is changed in the user prefs. Does nothing if there is no file at {@code filePath}.
+     *
+     * @return true if the file was converted.
+     * @throws DataConversionException if the file is in neither format.
+     */
+    public static boolean convertInPlace(Path filePath, AddressBookFormat format)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(format);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        AddressBookFormat currentFormat = BinaryAddressBookStorage.isBinaryFile(filePath)
+                ? AddressBookFormat.BINARY
+                : AddressBookFormat.JSON;
+        if (currentFormat == format) {
+            return false;
+        }
+
+        convert(filePath, currentFormat, filePath, format);
+        return true;
+    }
+
+}
@@ -0,0 +1,305 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.PriorityEnum;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskCategory;
+import seedu.address.model.task.TaskCategoryType;
+import seedu.address.model.task.TaskDeadline;
+import seedu.address.model.task.TaskName;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by the persons and then the tasks, each
+ * preceded by their count. Strings are stored as length-prefixed UTF-8, priorities and categories as enum ordinals,
+ * deadlines as epoch days, and the person assigned to a task as its index in the persons, or -1 if there is none.
+ * Since version 2, each person and task starts with its id, or -1 if it has none. Version 1 files are still read.
+ * Persons and tasks read without an id are given the next one in the {@code IdSequence}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_INVALID_ORDINAL = "Invalid %s ordinal: %d";
+    public static final String MESSAGE_INVALID_PERSON_INDEX = "Task is assigned to a person that does not exist.";
+
+    static final int MAGIC = 0x41424B42; // "ABKB"
+    static final long NO_ID = -1;
+    static final int FORMAT_VERSION = 2;
+    static final int FORMAT_VERSION_WITHOUT_IDS = 1;
+
+    private static final int NO_PERSON = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readAddressBookFrom(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, tempFile -> {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                writeAddressBookTo(addressBook, out);
+            }
+        });
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary address book.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.available() >= Integer.BYTES && in.readInt() == MAGIC;
+        }
+    }
+
+    private static void writeAddressBookTo(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<Email, Integer> personIndexes = new HashMap<>();
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            personIndexes.put(person.getEmail(), personIndexes.size());
+            out.writeLong(person.getId());
+            writeString(out, person.getName().fullName);
+            writeString(out, person.getPhone().value);
+            writeString(out, person.getEmail().value);
+            writeString(out, person.getAddress().value);
+            out.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeString(out, tag.tagName);
+            }
+        }
+
+        List<Task> tasks = addressBook.getTaskList();
+        out.writeInt(tasks.size());
+        for (Task task : tasks) {
+            out.writeLong(task.getId());
+            writeString(out, task.getName().getTaskName());
+            writeString(out, task.getDescription().toString());
+            out.writeByte(task.getPriority().getPriority().ordinal());
+            out.writeByte(task.getCategory().getTaskCategoryType().ordinal());
+            out.writeInt(Math.toIntExact(task.getDeadline().getDeadline().toEpochDay()));
+            out.writeBoolean(task.isDone());
+            out.writeInt(task.getPerson() == null
+                    ? NO_PERSON
+                    : personIndexes.getOrDefault(task.getPerson().getEmail(), NO_PERSON));
+        }
+    }
+
+    private static AddressBook readAddressBookFrom(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_IDS) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        boolean hasIds = version != FORMAT_VERSION_WITHOUT_IDS;
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = in.readInt();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            long id = hasIds ? in.readLong() : NO_ID;
+            Person person = readPerson(in, id);
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            if (addressBook.getPersonById(person.getId()).isPresent()) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID);
+            }
+            addressBook.addPerson(person);
+            persons.add(person);
+        }
+
+        int taskCount = in.readInt();
+        for (int i = 0; i < taskCount; i++) {
+            long id = hasIds ? in.readLong() : NO_ID;
+            Task task = readTask(in, id, persons);
+            if (addressBook.hasTask(task)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASK);
+            }
+            if (addressBook.getTaskById(task.getId()).isPresent()) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASK_ID);
+            }
+            addressBook.addTask(task);
+        }
+
+        return addressBook;
+    }
+
+    private static Person readPerson(DataInputStream in, long id) throws IOException, IllegalValueException {
+        String name = readString(in);
+        String phone = readString(in);
+        String email = readString(in);
+        String address = readString(in);
+        int tagCount = in.readInt();
+        List<String> tagNames = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tagNames.add(readString(in));
+        }
+
+        try {
+            Set<Tag> tags = new HashSet<>();
+            for (String tagName : tagNames) {
+                tags.add(new Tag(tagName));
+            }
+            return id == NO_ID
+                    ? new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), tags)
+                    : new Person(id, new Name(name), new Phone(phone), new Email(email), new Address(address), tags);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static Task readTask(DataInputStream in, long id, List<Person> persons)
+            throws IOException, IllegalValueException {
+        String name = readString(in);
+        String description = readString(in);
+        PriorityEnum priority = readOrdinal(in, PriorityEnum.values());
+        TaskCategoryType category = readOrdinal(in, TaskCategoryType.values());
+        int deadline = in.readInt();
+        boolean isDone = in.readBoolean();
+        int personIndex = in.readInt();
+        if (personIndex < NO_PERSON || personIndex >= persons.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_PERSON_INDEX);
+        }
+        Person person = personIndex == NO_PERSON ? null : persons.get(personIndex);
+
+        try {
+            TaskName taskName = new TaskName(name);
+            Description taskDescription = new Description(description);
+            TaskDeadline taskDeadline = new TaskDeadline(LocalDate.ofEpochDay(deadline));
+            return id == NO_ID
+                    ? new Task(taskName, taskDescription, new Priority(priority), new TaskCategory(category),
+                            taskDeadline, person, isDone)
+                    : new Task(id, taskName, taskDescription, new Priority(priority), new TaskCategory(category),
+                            taskDeadline, person, isDone);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static <E extends Enum<E>> E readOrdinal(DataInputStream in, E[] values)
+            throws IOException, IllegalValueException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= values.length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ORDINAL,
+                    values[0].getDeclaringClass().getSimpleName(), ordinal));
+        }
+        return values[ordinal];
+    }
+
+    /**
+     * Writes {@code value} as its length in UTF-8 bytes followed by the bytes. Unlike
+     * {@link DataOutputStream#writeUTF(String)}, this is not limited to 64KB.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException, IllegalValueException {
+        int length = in.readInt();
+        // the bytes left in a file stream are known, so a corrupt length is caught before it is allocated
+        if (length < 0 || length > in.available()) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,453 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * An {@code AddressBookStorage} that keeps a full snapshot of the address book in another {@code AddressBookStorage},
+ * and records the changes made after the snapshot in append-only journal files next to it.
+ * <p>
+ * The first save of an address book writes a full snapshot. From then on, this storage listens to the person and
+ * task lists of that address book, and each save appends the changes made since the previous save to the journal,
+ * with a single fsync. Saves must therefore be given the live address book rather than a copy of it.
+ * When the journal grows past the compaction threshold, a new journal is started and the snapshot is rewritten on a
+ * background thread, after which the older journals are deleted.
+ * <p>
+ * Reading the address book replays the journals on top of the snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_INFIX = ".journal.";
+    private static final String SNAPSHOT_TEMP_INFIX = ".snapshot.";
+
+    private final AddressBookStorage snapshotStorage;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AddressBook compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<JsonAdaptedJournalRecord> pendingRecords = new ArrayList<>();
+    private final ListChangeListener<Person> personListener = change -> record(change,
+            JsonAdaptedJournalRecord::addPerson, JsonAdaptedJournalRecord::setPerson,
+            JsonAdaptedJournalRecord::removePerson);
+    private final ListChangeListener<Task> taskListener = change -> record(change,
+            JsonAdaptedJournalRecord::addTask, JsonAdaptedJournalRecord::setTask,
+            JsonAdaptedJournalRecord::removeTask);
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private FileChannel journal;
+    private long journalGeneration;
+    private Future<?> compaction;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} which keeps its snapshot in {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} which keeps its snapshot in {@code snapshotStorage}, and rewrites
+     * the snapshot once the journal is larger than {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, long compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. Journals are only replayed when reading from the snapshot's own file,
+     * after waiting for any snapshot being rewritten in the background.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or a journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        awaitCompaction();
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+
+        List<Long> generations = getGenerationsToReplay();
+        if (!snapshot.isPresent() || generations.isEmpty()) {
+            if (!generations.isEmpty()) {
+                logger.warning("Ignoring journals of missing data file " + filePath);
+            }
+            return snapshot;
+        }
+
+        logger.info("Replaying " + generations.size() + " journal(s) onto " + filePath);
+        try {
+            return Optional.of(replay(snapshot.get(), generations));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journals of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Only saves to the snapshot's own file are journaled;
+     * saves to any other file write the whole address book.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (addressBook != trackedAddressBook) {
+            startJournal(addressBook);
+            return;
+        }
+
+        appendPendingRecords();
+        if (journal.size() > compactionThreshold && (compaction == null || compaction.isDone())) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Blocks until the snapshot being rewritten in the background, if any, has been written.
+     */
+    void awaitCompaction() throws IOException {
+        if (compaction == null) {
+            return;
+        }
+
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compacting journal", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook}, replacing all existing journals, and starts journaling its
+     * changes.
+     */
+    private void startJournal(ReadOnlyAddressBook addressBook) throws IOException {
+        stopJournal();
+        awaitCompaction();
+
+        List<Long> generations = getJournalGenerations();
+        long generation = generations.isEmpty() ? 0 : generations.get(generations.size() - 1);
+        commitSnapshot(addressBook, generation);
+
+        openJournal(generation + 1);
+        trackedAddressBook = addressBook;
+        addressBook.getPersonList().addListener(personListener);
+        addressBook.getTaskList().addListener(taskListener);
+    }
+
+    private void stopJournal() throws IOException {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPersonList().removeListener(personListener);
+            trackedAddressBook.getTaskList().removeListener(taskListener);
+            trackedAddressBook = null;
+        }
+        pendingRecords.clear();
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private void openJournal(long generation) throws IOException {
+        journal = openForAppend(getJournalPath(generation));
+        journalGeneration = generation;
+    }
+
+    /**
+     * Opens {@code journalPath} for appending, first dropping a record at its end that was only partly written.
+     */
+    private static FileChannel openForAppend(Path journalPath) throws IOException {
+        FileChannel channel = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer lastByte = ByteBuffer.allocate(1);
+        long end = channel.size();
+        while (end > 0) {
+            lastByte.clear();
+            channel.read(lastByte, end - 1);
+            if (lastByte.get(0) == '\n') {
+                break;
+            }
+            end--;
+        }
+        channel.truncate(end);
+        channel.position(end);
+        return channel;
+    }
+
+    /**
+     * Appends the records of the changes made since the last save to the journal, and forces them to disk.
+     * If that fails, the next save writes a full snapshot instead.
+     */
+    private void appendPendingRecords() throws IOException {
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (JsonAdaptedJournalRecord record : pendingRecords) {
+                lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+            }
+            write(journal, lines.toString());
+            pendingRecords.clear();
+        } catch (IOException e) {
+            stopJournal();
+            throw e;
+        }
+    }
+
+    /**
+     * Starts a new journal, and rewrites the snapshot to include the previous journals on a background thread.
+     */
+    private void startCompaction() throws IOException {
+        ReadOnlyAddressBook snapshot = trackedAddressBook.getSnapshot();
+        long compactedGeneration = journalGeneration;
+        journal.close();
+        openJournal(compactedGeneration + 1);
+
+        compaction = compactor.submit(() -> {
+            try {
+                commitSnapshot(snapshot, compactedGeneration);
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal in the background: " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * Replaces the snapshot with {@code addressBook}, which must include the changes in all journals up to
+     * {@code generation}, and then deletes those journals.
+     * <p>
+     * The new snapshot is written to a temporary file, and a {@code COMPACTED} record is appended to the journal of
+     * {@code generation} before the temporary file is moved over the snapshot. On reading, a journal ending in that
+     * record is skipped, together with all journals before it, unless its temporary file is still there.
+     */
+    private void commitSnapshot(ReadOnlyAddressBook addressBook, long generation) throws IOException {
+        Path tempPath = getSnapshotTempPath(generation);
+        snapshotStorage.saveAddressBook(addressBook, tempPath);
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+
+        try (FileChannel compactedJournal = openForAppend(getJournalPath(generation))) {
+            write(compactedJournal, JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.compacted()) + '\n');
+        }
+
+        FileUtil.moveAtomically(tempPath, getAddressBookFilePath());
+
+        for (long compacted : getJournalGenerations()) {
+            if (compacted <= generation) {
+                Files.deleteIfExists(getJournalPath(compacted));
+                Files.deleteIfExists(getSnapshotTempPath(compacted));
+            }
+        }
+    }
+
+    private static void write(FileChannel channel, String lines) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Records the changes in {@code change} as journal records, to be appended on the next save.
+     */
+    private <E> void record(ListChangeListener.Change<? extends E> change,
+                            BiFunction<Integer, E, JsonAdaptedJournalRecord> add,
+                            BiFunction<Integer, E, JsonAdaptedJournalRecord> set,
+                            IntFunction<JsonAdaptedJournalRecord> remove) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()
+                    || (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize())) {
+                for (int i = from; i < change.getTo(); i++) {
+                    pendingRecords.add(set.apply(i, change.getList().get(i)));
+                }
+                continue;
+            }
+
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                pendingRecords.add(remove.apply(from));
+            }
+            for (int i = from; i < change.getTo(); i++) {
+                pendingRecords.add(add.apply(i, change.getList().get(i)));
+            }
+        }
+    }
+
+    /**
+     * Returns the address book in {@code snapshot} with the journals of {@code generations} replayed on top of it.
+     */
+    private ReadOnlyAddressBook replay(ReadOnlyAddressBook snapshot, List<Long> generations)
+            throws DataConversionException, IOException, IllegalValueException {
+        List<JsonAdaptedPerson> persons = snapshot.getPersonList().stream()
+                .map(JsonAdaptedPerson::new).collect(Collectors.toList());
+        List<JsonAdaptedTask> tasks = snapshot.getTaskList().stream()
+                .map(JsonAdaptedTask::new).collect(Collectors.toList());
+
+        for (long generation : generations) {
+            for (String line : readRecordLines(generation)) {
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (IOException e) {
+                    throw new DataConversionException(e);
+                }
+                record.applyTo(persons, tasks);
+            }
+        }
+
+        return new JsonSerializableAddressBook(persons, tasks).toModelType();
+    }
+
+    /**
+     * Returns the generations of the journals that are not included in the snapshot, in the order they were written.
+     */
+    private List<Long> getGenerationsToReplay() throws IOException {
+        List<Long> generations = getJournalGenerations();
+        long lastCompacted = -1;
+        for (long generation : generations) {
+            if (isCompacted(generation)) {
+                lastCompacted = generation;
+            }
+        }
+
+        long firstToReplay = lastCompacted + 1;
+        return generations.stream().filter(generation -> generation >= firstToReplay).collect(Collectors.toList());
+    }
+
+    private boolean isCompacted(long generation) throws IOException {
+        if (Files.exists(getSnapshotTempPath(generation))) {
+            return false;
+        }
+
+        List<String> lines = readRecordLines(generation);
+        if (lines.isEmpty()) {
+            return false;
+        }
+        try {
+            return JsonUtil.fromJsonString(lines.get(lines.size() - 1), JsonAdaptedJournalRecord.class)
+                    .isCompacted();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the records in the journal of {@code generation}, one per line. A record at the end that was only partly
+     * written, because the app stopped while appending it, is left out.
+     */
+    private List<String> readRecordLines(long generation) throws IOException {
+        String journalText = new String(Files.readAllBytes(getJournalPath(generation)), StandardCharsets.UTF_8);
+        int end = journalText.lastIndexOf('\n') + 1;
+        if (end < journalText.length()) {
+            logger.warning("Ignoring incomplete record at the end of journal " + getJournalPath(generation));
+        }
+        return Stream.of(journalText.substring(0, end).split("\n"))
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the generations of the journals next to the snapshot, in ascending order.
+     */
+    private List<Long> getJournalGenerations() throws IOException {
+        Path directory = getAddressBookFilePath().toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+
+        String prefix = getAddressBookFilePath().getFileName() + JOURNAL_INFIX;
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix)
+                            && name.substring(prefix.length()).matches("\\d{1,18}"))
+                    .map(name -> Long.parseLong(name.substring(prefix.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private Path getJournalPath(long generation) {
+        Path filePath = getAddressBookFilePath();
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_INFIX + generation);
+    }
+
+    private Path getSnapshotTempPath(long generation) {
+        Path filePath = getAddressBookFilePath();
+        return filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_TEMP_INFIX + generation + ".tmp");
+    }
+
+}
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * Jackson-friendly record of a single change to the persons or tasks of an address book, as stored in the journal of
+ * {@link JournaledAddressBookStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_INVALID_INDEX = "Journal record's index %d is out of bounds.";
+
+    /**
+     * The kinds of journal records.
+     */
+    enum Operation {
+        ADD_PERSON, SET_PERSON, REMOVE_PERSON, ADD_TASK, SET_TASK, REMOVE_TASK,
+        /** Marks that the snapshot has been rewritten to include every record before it. */
+        COMPACTED
+    }
+
+    private final Operation op;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedTask task;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") Operation op, @JsonProperty("index") Integer index,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("task") JsonAdaptedTask task) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+        this.task = task;
+    }
+
+    static JsonAdaptedJournalRecord addPerson(int index, Person person) {
+        return new JsonAdaptedJournalRecord(Operation.ADD_PERSON, index, new JsonAdaptedPerson(person), null);
+    }
+
+    static JsonAdaptedJournalRecord setPerson(int index, Person person) {
+        return new JsonAdaptedJournalRecord(Operation.SET_PERSON, index, new JsonAdaptedPerson(person), null);
+    }
+
+    static JsonAdaptedJournalRecord removePerson(int index) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_PERSON, index, null, null);
+    }
+
+    static JsonAdaptedJournalRecord addTask(int index, Task task) {
+        return new JsonAdaptedJournalRecord(Operation.ADD_TASK, index, null, new JsonAdaptedTask(task));
+    }
+
+    static JsonAdaptedJournalRecord setTask(int index, Task task) {
+        return new JsonAdaptedJournalRecord(Operation.SET_TASK, index, null, new JsonAdaptedTask(task));
+    }
+
+    static JsonAdaptedJournalRecord removeTask(int index) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_TASK, index, null, null);
+    }
+
+    static JsonAdaptedJournalRecord compacted() {
+        return new JsonAdaptedJournalRecord(Operation.COMPACTED, null, null, null);
+    }
+
+    boolean isCompacted() {
+        return op == Operation.COMPACTED;
+    }
+
+    /**
+     * Applies this record to the Jackson-friendly {@code persons} and {@code tasks} of an address book.
+     *
+     * @throws IllegalValueException if a field needed by this record is missing or its index is out of bounds.
+     */
+    public void applyTo(List<JsonAdaptedPerson> persons, List<JsonAdaptedTask> tasks) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+
+        switch (op) {
+        case ADD_PERSON:
+            persons.add(checkIndex(persons.size() + 1), checkPresent(person, "person"));
+            break;
+        case SET_PERSON:
+            persons.set(checkIndex(persons.size()), checkPresent(person, "person"));
+            break;
+        case REMOVE_PERSON:
+            persons.remove(checkIndex(persons.size()));
+            break;
+        case ADD_TASK:
+            tasks.add(checkIndex(tasks.size() + 1), checkPresent(task, "task"));
+            break;
+        case SET_TASK:
+            tasks.set(checkIndex(tasks.size()), checkPresent(task, "task"));
+            break;
+        case REMOVE_TASK:
+            tasks.remove(checkIndex(tasks.size()));
+            break;
+        case COMPACTED:
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Returns the index of this record if it is less than {@code bound}.
+     */
+    private int checkIndex(int bound) throws IllegalValueException {
+        int value = checkPresent(index, "index");
+        if (value < 0 || value >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, value));
+        }
+        return value;
+    }
+
+    private static <T> T checkPresent(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+
+}
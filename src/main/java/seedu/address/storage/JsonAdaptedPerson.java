@@ -16,7 +16,6 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
-import seedu.address.model.task.Task;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -30,6 +29,14 @@ class JsonAdaptedPerson {
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
+    private final Long id;
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no ID.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, List<JsonAdaptedTag> tagged) {
+        this(name, phone, email, address, tagged, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
@@ -37,7 +44,7 @@ class JsonAdaptedPerson {
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email, @JsonProperty("address") String address,
-                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged, @JsonProperty("id") Long id) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -45,6 +52,7 @@ class JsonAdaptedPerson {
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
+        this.id = id;
     }
 
     /**
@@ -58,6 +66,7 @@ class JsonAdaptedPerson {
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
+        id = source.getId();
     }
 
     /**
@@ -71,8 +80,6 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
-        final List<Task> personTasks = new ArrayList<>();
-
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -105,9 +112,14 @@ class JsonAdaptedPerson {
         }
         final Address modelAddress = new Address(address);
 
+        if (id != null && id < 0) {
+            throw new IllegalValueException(Person.ID_MESSAGE_CONSTRAINT);
+        }
+
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        final List<Task> modelTasks = new ArrayList<>(personTasks);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelTasks);
+        return id == null
+                ? new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags)
+                : new Person(id, modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
 }
@@ -1,14 +1,16 @@
 package seedu.address.storage;
 
 import java.time.LocalDate;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.task.Description;
 import seedu.address.model.task.Priority;
 import seedu.address.model.task.PriorityEnum;
@@ -31,7 +33,15 @@ public class JsonAdaptedTask {
     private final String deadline;
     private final String email;
     private final String isDone;
+    private final Long id;
 
+    /**
+     * Constructs a {@code JsonAdaptedTask} with the given task details and no ID.
+     */
+    public JsonAdaptedTask(String name, String categoryName, String description, String priority, String deadline,
+                           String email, String isDone) {
+        this(name, categoryName, description, priority, deadline, email, isDone, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedTask} with the given task details.
@@ -43,7 +53,8 @@ public class JsonAdaptedTask {
                            @JsonProperty("priority") String priority,
                            @JsonProperty("deadline") String deadline,
                            @JsonProperty("email") String email,
-                           @JsonProperty("isDone") String isDone) {
+                           @JsonProperty("isDone") String isDone,
+                           @JsonProperty("id") Long id) {
         this.name = name;
         this.categoryName = categoryName;
         this.description = description;
@@ -51,6 +62,7 @@ public class JsonAdaptedTask {
         this.priority = priority;
         this.email = email;
         this.isDone = isDone;
+        this.id = id;
     }
 
     /**
@@ -64,15 +76,35 @@ public class JsonAdaptedTask {
         deadline = source.getDeadline().toString();
         email = source.getPerson() == null ? null : source.getEmail().toString();
         isDone = Task.covertIsDoneFromBooleanToString(source.isDone());
+        id = source.getId();
     }
 
 
     /**
      * Converts this Jackson-friendly adapted task object into the model's {@code Task} object.
+     * The assigned person, if any, is looked up by email in {@code addressBook}. A task saved without an ID is given
+     * the next one in the {@code IdSequence}.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted task.
      */
-    public Task toModelType(ObservableList<Person> personList) throws IllegalValueException {
+    public Task toModelType(AddressBook addressBook) throws IllegalValueException {
+        return toModelType(modelEmail -> {
+            try {
+                return addressBook.getPersonByEmail(modelEmail);
+            } catch (PersonNotFoundException e) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted task object into the model's {@code Task} object.
+     * The assigned person, if any, is looked up by email with {@code assignees}, which returns null if there is no
+     * such person.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted task.
+     */
+    public Task toModelType(Function<Email, Person> assignees) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     TaskName.class.getSimpleName()));
@@ -116,6 +148,7 @@ public class JsonAdaptedTask {
         if (!TaskDeadline.isValidTaskDeadline(deadline)) {
             throw new IllegalValueException(TaskDeadline.MESSAGE_CONSTRAINTS);
         }
+        // a saved deadline may have passed since it was entered
         final TaskDeadline modelDeadline = new TaskDeadline(LocalDate.parse(deadline));
 
         if (isDone == null) {
@@ -132,17 +165,17 @@ public class JsonAdaptedTask {
             if (!Email.isValidEmail(email)) {
                 throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
             }
-            final Email modelEmail = new Email(email);
+            modelPerson = assignees.apply(new Email(email));
+        }
 
-            for (Person person : personList) {
-                if (person.emailMatches(modelEmail)) {
-                    modelPerson = person;
-                    break;
-                }
-            }
+        if (id != null && id < 0) {
+            throw new IllegalValueException(Task.ID_MESSAGE_CONSTRAINT);
         }
 
-        return new Task(modelName, modelDescription, modelPriority, modelCategory,
-                modelDeadline, modelPerson, modelIsDone);
+        return id == null
+                ? new Task(modelName, modelDescription, modelPriority, modelCategory, modelDeadline, modelPerson,
+                        modelIsDone)
+                : new Task(id, modelName, modelDescription, modelPriority, modelCategory, modelDeadline, modelPerson,
+                        modelIsDone);
     }
 }
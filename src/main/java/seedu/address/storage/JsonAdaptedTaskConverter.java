@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.task.Task;
+
+/**
+ * Converts {@code JsonAdaptedTask}s into the model's {@code Task}s on all cores, and adds them to an address book in
+ * their original order. Invalid and duplicate tasks are collected so that all of them can be reported at once.
+ * <p>
+ * Conversion looks up assigned persons in the address book, so all persons must be added to it first.
+ */
+class JsonAdaptedTaskConverter {
+
+    public static final String MESSAGE_INVALID_TASKS = "%d task(s) could not be loaded:";
+    public static final String MESSAGE_INVALID_TASK = "Task %d: %s";
+    public static final String MESSAGE_MORE_INVALID_TASKS = "...and %d more";
+
+    /** Number of invalid tasks listed in the error message. */
+    static final int MAX_LISTED_INVALID_TASKS = 20;
+
+    /** Batches smaller than this are converted on the calling thread. */
+    private static final int MIN_PARALLEL_BATCH_SIZE = 256;
+
+    private final AddressBook addressBook;
+    private final List<String> invalidTasks = new ArrayList<>();
+    private int invalidTaskCount = 0;
+    private int taskCount = 0;
+
+    JsonAdaptedTaskConverter(AddressBook addressBook) {
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedTasks}, and adds those that are valid and not duplicates to the address book.
+     */
+    void addAll(List<JsonAdaptedTask> jsonAdaptedTasks) {
+        int size = jsonAdaptedTasks.size();
+        Task[] tasks = new Task[size];
+        String[] errors = new String[size];
+
+        IntStream indexes = IntStream.range(0, size);
+        if (size >= MIN_PARALLEL_BATCH_SIZE) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                tasks[i] = jsonAdaptedTasks.get(i).toModelType(addressBook);
+            } catch (IllegalValueException ive) {
+                errors[i] = ive.getMessage();
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            taskCount++;
+            if (errors[i] != null) {
+                addInvalidTask(errors[i]);
+            } else if (addressBook.hasTask(tasks[i])) {
+                addInvalidTask(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASK);
+            } else if (addressBook.getTaskById(tasks[i].getId()).isPresent()) {
+                addInvalidTask(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASK_ID);
+            } else {
+                addressBook.addTask(tasks[i]);
+            }
+        }
+    }
+
+    private void addInvalidTask(String message) {
+        invalidTaskCount++;
+        if (invalidTasks.size() < MAX_LISTED_INVALID_TASKS) {
+            invalidTasks.add(String.format(MESSAGE_INVALID_TASK, taskCount, message));
+        }
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} listing the invalid tasks, if there were any.
+     */
+    void checkAllAdded() throws IllegalValueException {
+        if (invalidTaskCount == 0) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_TASKS, invalidTaskCount));
+        for (String invalidTask : invalidTasks) {
+            message.append('\n').append(invalidTask);
+        }
+        if (invalidTaskCount > invalidTasks.size()) {
+            message.append('\n').append(String.format(MESSAGE_MORE_INVALID_TASKS,
+                    invalidTaskCount - invalidTasks.size()));
+        }
+        throw new IllegalValueException(message.toString());
+    }
+
+}
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}.
+ * <p>
+ * The persons that changed tasks are assigned to are stored with the change, so that the tasks can be restored even
+ * if those persons have since been deleted.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedUndoChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Undo change's %s field is missing!";
+    public static final String MESSAGE_INVALID_INDEX = "Undo change's index %d is out of bounds.";
+
+    private final AddressBookChange.Target target;
+    private final Integer index;
+    private final List<JsonAdaptedPerson> removedPersons = new ArrayList<>();
+    private final List<JsonAdaptedPerson> addedPersons = new ArrayList<>();
+    private final List<JsonAdaptedTask> removedTasks = new ArrayList<>();
+    private final List<JsonAdaptedTask> addedTasks = new ArrayList<>();
+    private final List<JsonAdaptedPerson> assignees = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedUndoChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedUndoChange(@JsonProperty("target") AddressBookChange.Target target,
+                                 @JsonProperty("index") Integer index,
+                                 @JsonProperty("removedPersons") List<JsonAdaptedPerson> removedPersons,
+                                 @JsonProperty("addedPersons") List<JsonAdaptedPerson> addedPersons,
+                                 @JsonProperty("removedTasks") List<JsonAdaptedTask> removedTasks,
+                                 @JsonProperty("addedTasks") List<JsonAdaptedTask> addedTasks,
+                                 @JsonProperty("assignees") List<JsonAdaptedPerson> assignees) {
+        this.target = target;
+        this.index = index;
+        addAllIfPresent(this.removedPersons, removedPersons);
+        addAllIfPresent(this.addedPersons, addedPersons);
+        addAllIfPresent(this.removedTasks, removedTasks);
+        addAllIfPresent(this.addedTasks, addedTasks);
+        addAllIfPresent(this.assignees, assignees);
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedUndoChange(AddressBookChange source) {
+        target = source.getTarget();
+        index = source.getIndex();
+        if (target == AddressBookChange.Target.PERSONS) {
+            source.getRemoved().forEach(person -> removedPersons.add(new JsonAdaptedPerson((Person) person)));
+            source.getAdded().forEach(person -> addedPersons.add(new JsonAdaptedPerson((Person) person)));
+            return;
+        }
+
+        Map<Email, Person> assigneesByEmail = new HashMap<>();
+        for (Object task : source.getRemoved()) {
+            removedTasks.add(new JsonAdaptedTask((Task) task));
+            putAssignee(assigneesByEmail, (Task) task);
+        }
+        for (Object task : source.getAdded()) {
+            addedTasks.add(new JsonAdaptedTask((Task) task));
+            putAssignee(assigneesByEmail, (Task) task);
+        }
+        assigneesByEmail.values().forEach(person -> assignees.add(new JsonAdaptedPerson(person)));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code AddressBookChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public AddressBookChange toModelType() throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        if (index < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index));
+        }
+
+        if (target == AddressBookChange.Target.PERSONS) {
+            return AddressBookChange.ofPersons(index, toModelPersons(removedPersons), toModelPersons(addedPersons));
+        }
+
+        Map<Email, Person> assigneesByEmail = new HashMap<>();
+        for (Person assignee : toModelPersons(assignees)) {
+            assigneesByEmail.put(assignee.getEmail(), assignee);
+        }
+        return AddressBookChange.ofTasks(index, toModelTasks(removedTasks, assigneesByEmail),
+                toModelTasks(addedTasks, assigneesByEmail));
+    }
+
+    private static void putAssignee(Map<Email, Person> assigneesByEmail, Task task) {
+        if (task.getPerson() != null) {
+            assigneesByEmail.putIfAbsent(task.getEmail(), task.getPerson());
+        }
+    }
+
+    private static List<Person> toModelPersons(List<JsonAdaptedPerson> adaptedPersons)
+            throws IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        for (JsonAdaptedPerson adaptedPerson : adaptedPersons) {
+            persons.add(adaptedPerson.toModelType());
+        }
+        return persons;
+    }
+
+    private static List<Task> toModelTasks(List<JsonAdaptedTask> adaptedTasks, Map<Email, Person> assigneesByEmail)
+            throws IllegalValueException {
+        List<Task> tasks = new ArrayList<>();
+        for (JsonAdaptedTask adaptedTask : adaptedTasks) {
+            tasks.add(adaptedTask.toModelType(assigneesByEmail::get));
+        }
+        return tasks;
+    }
+
+    private static <T> void addAllIfPresent(List<T> list, List<T> elements) {
+        if (elements != null) {
+            list.addAll(elements);
+        }
+    }
+
+}
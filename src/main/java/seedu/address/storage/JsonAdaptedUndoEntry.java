@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.UndoHistory;
+
+/**
+ * Jackson-friendly version of {@link UndoHistory.Entry}.
+ */
+class JsonAdaptedUndoEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Undo entry's %s field is missing!";
+
+    private final String description;
+    private final List<JsonAdaptedUndoChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedUndoEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedUndoEntry(@JsonProperty("description") String description,
+                                @JsonProperty("changes") List<JsonAdaptedUndoChange> changes) {
+        this.description = description;
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Converts a given {@code UndoHistory.Entry} into this class for Jackson use.
+     */
+    public JsonAdaptedUndoEntry(UndoHistory.Entry source) {
+        description = source.getDescription();
+        source.getChanges().forEach(change -> changes.add(new JsonAdaptedUndoChange(change)));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted entry object into the model's {@code UndoHistory.Entry} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    public UndoHistory.Entry toModelType() throws IllegalValueException {
+        if (description == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "description"));
+        }
+
+        List<AddressBookChange> modelChanges = new ArrayList<>();
+        for (JsonAdaptedUndoChange change : changes) {
+            modelChanges.add(change.toModelType());
+        }
+        return new UndoHistory.Entry(description, modelChanges);
+    }
+
+}
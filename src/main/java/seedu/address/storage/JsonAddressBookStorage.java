@@ -3,22 +3,40 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * The file is read and written as a stream, one person or batch of tasks at a time, so the whole document is never
+ * held in memory as a string or as a list of Jackson-friendly objects. It is written to a temporary file that then
+ * replaces it, so that a crash while saving does not leave it partly written.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** Number of tasks read from the file before they are converted together. */
+    static final int TASK_BATCH_SIZE = 4096;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -45,20 +63,70 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(readAddressBook(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads an address book in the format of {@link JsonSerializableAddressBook} from {@code parser}.
+     * Tasks are converted in batches of {@link #TASK_BATCH_SIZE} as they are read, unless they come before the persons
+     * they may be assigned to.
+     */
+    private static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        JsonAdaptedTaskConverter taskConverter = new JsonAdaptedTaskConverter(addressBook);
+        List<JsonAdaptedTask> taskBatch = new ArrayList<>();
+        boolean hasReadPersons = false;
+
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals("persons")) {
+                expectToken(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonSerializableAddressBook.addPerson(addressBook, parser.readValueAs(JsonAdaptedPerson.class));
+                }
+                hasReadPersons = true;
+            } else if (fieldName.equals("tasks")) {
+                expectToken(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    taskBatch.add(parser.readValueAs(JsonAdaptedTask.class));
+                    if (hasReadPersons && taskBatch.size() >= TASK_BATCH_SIZE) {
+                        taskConverter.addAll(taskBatch);
+                        taskBatch.clear();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+        taskConverter.addAll(taskBatch);
+        taskConverter.checkAllAdded();
+        return addressBook;
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +141,22 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeAtomically(filePath, tempFile -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(tempFile)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("persons");
+                for (Person person : addressBook.getPersonList()) {
+                    generator.writeObject(new JsonAdaptedPerson(person));
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart("tasks");
+                for (Task task : addressBook.getTaskList()) {
+                    generator.writeObject(new JsonAdaptedTask(task));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
     }
 
 }
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.UndoHistory;
+
+/**
+ * Keeps the older entries of an {@link UndoHistory} in a file, one JSON line per entry, newest last.
+ * <p>
+ * The offsets of the entries in the file are kept in memory, so that the newest entry can be read and cut off the end
+ * of the file without reading the entries before it. The file is only meant to last as long as the app runs.
+ */
+public class JsonUndoHistorySpill implements UndoHistory.Spill {
+
+    private final Path filePath;
+    /** Offsets of the entries in the file, newest first. */
+    private final Deque<Long> entryOffsets = new ArrayDeque<>();
+    private long fileSize;
+
+    /**
+     * Creates a {@code JsonUndoHistorySpill} that keeps its entries in {@code filePath}, overwriting the file.
+     */
+    public JsonUndoHistorySpill(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns a {@code JsonUndoHistorySpill} in a new temporary file, which is deleted when the app exits.
+     */
+    public static JsonUndoHistorySpill createTemporary() throws IOException {
+        Path filePath = Files.createTempFile("addressbook-undo", ".json");
+        filePath.toFile().deleteOnExit();
+        return new JsonUndoHistorySpill(filePath);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entryOffsets.isEmpty();
+    }
+
+    @Override
+    public void push(UndoHistory.Entry entry) throws IOException {
+        requireNonNull(entry);
+        String line = JsonUtil.toCompactJsonString(new JsonAdaptedUndoEntry(entry)) + '\n';
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // drops anything left behind by a push that failed part way
+            channel.truncate(fileSize);
+            channel.position(fileSize);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        entryOffsets.push(fileSize);
+        fileSize += buffer.limit();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The entry is parsed and validated before it is cut off the file, so an entry that cannot be read is reported
+     * as an {@code IOException} and is not lost.
+     */
+    @Override
+    public UndoHistory.Entry pop() throws IOException {
+        long offset = entryOffsets.element();
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(fileSize - offset));
+
+        UndoHistory.Entry entry;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new EOFException("Undo history file " + filePath + " is shorter than expected");
+                }
+            }
+            entry = parse(new String(buffer.array(), StandardCharsets.UTF_8));
+            channel.truncate(offset);
+        }
+        entryOffsets.pop();
+        fileSize = offset;
+        return entry;
+    }
+
+    /**
+     * Returns the entry in {@code line}, treating any value that fails validation as an unreadable entry.
+     */
+    private UndoHistory.Entry parse(String line) throws IOException {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedUndoEntry.class).toModelType();
+        } catch (IllegalValueException | RuntimeException e) {
+            throw new IOException("Undo history file " + filePath + " has an invalid entry: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void clear() throws IOException {
+        entryOffsets.clear();
+        fileSize = 0;
+        Files.deleteIfExists(filePath);
+    }
+
+}
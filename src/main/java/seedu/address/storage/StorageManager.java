@@ -1,18 +1,32 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * <p>
+ * In write-behind mode, {@link #saveAddressBook(ReadOnlyAddressBook)} only takes a snapshot of the address book and
+ * hands it to a single background writer thread. Saves requested while the writer is busy are coalesced so that only
+ * the latest snapshot is written.
+ * {@link #flushAddressBook()} must be called before exiting so that pending saves are not lost.
+ * <p>
+ * A data file that could not be read is never saved over, so that the data in it is not lost to whatever address book
+ * the app starts with instead. Saving resumes once the file is read successfully, or is moved away.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +34,32 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService addressBookWriter;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSave = new AtomicReference<>();
+    private volatile IOException failedSave;
+    /** The data file that could not be read, or null if there is none. */
+    private volatile Path unreadableFilePath;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which saves the address book on a background thread if {@code isWriteBehind} is true.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          boolean isWriteBehind) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        addressBookWriter = isWriteBehind ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,18 +95,96 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = addressBookStorage.readAddressBook(filePath);
+        } catch (DataConversionException | IOException e) {
+            unreadableFilePath = filePath;
+            throw e;
+        }
+        if (filePath.equals(unreadableFilePath)) {
+            unreadableFilePath = null;
+        }
+        return addressBook;
     }
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage.
+     * In write-behind mode, this returns before the data is written, and any error from an earlier background save
+     * is thrown instead.
+     *
+     * @throws IOException if the data file could not be read, or could not be written.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        checkNotUnreadable(addressBookStorage.getAddressBookFilePath());
+        if (addressBookWriter == null) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+
+        throwFailedSave();
+        if (pendingSave.getAndSet(addressBook.getSnapshot()) == null) {
+            addressBookWriter.execute(this::writePendingSave);
+        }
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        checkNotUnreadable(filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (addressBookWriter == null) {
+            return;
+        }
+
+        try {
+            addressBookWriter.submit(this::writePendingSave).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving data file", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        throwFailedSave();
+    }
+
+    /**
+     * Writes the latest pending snapshot, if any. Runs on the writer thread.
+     */
+    private void writePendingSave() {
+        ReadOnlyAddressBook snapshot = pendingSave.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            saveAddressBook(snapshot, addressBookStorage.getAddressBookFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to save data file in the background: " + StringUtil.getDetails(e));
+            failedSave = e;
+        }
+    }
+
+    /**
+     * Throws an {@code IOException} if {@code filePath} is a data file that could not be read and is still there.
+     */
+    private void checkNotUnreadable(Path filePath) throws IOException {
+        if (filePath.equals(unreadableFilePath) && Files.exists(filePath)) {
+            throw new IOException("Data file " + filePath + " could not be read, so it is not saved over. "
+                    + "Fix or move the file to save again.");
+        }
+    }
+
+    private void throwFailedSave() throws IOException {
+        IOException e = failedSave;
+        if (e != null) {
+            failedSave = null;
+            throw e;
+        }
+    }
 }
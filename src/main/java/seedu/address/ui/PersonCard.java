@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.Collection;
 import java.util.Comparator;
 
 import javafx.fxml.FXML;
@@ -47,9 +48,9 @@ public class PersonCard extends UiPart<Region> {
     private Label taskAssigned;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code Person}, index and assigned tasks to display.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(Person person, int displayedIndex, Collection<Task> assignedTasks) {
         super(FXML);
         this.person = person;
         id.setText(displayedIndex + ". ");
@@ -64,9 +65,10 @@ public class PersonCard extends UiPart<Region> {
 
         StringBuilder tasks = new StringBuilder("Assigned :  ");
 
-        for (Task task : person.getTasks()) {
-            tasks.append(task.getName().toString()).append(", ");
-        }
+        assignedTasks.stream()
+                .map(task -> task.getName().toString())
+                .sorted()
+                .forEach(taskName -> tasks.append(taskName).append(", "));
         taskAssigned.setText(tasks.substring(0, tasks.length() - 2));
     }
 
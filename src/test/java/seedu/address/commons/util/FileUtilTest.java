@@ -1,13 +1,27 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +34,38 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void openMappedFile_readsWholeFile() throws Exception {
+        Path file = testFolder.resolve("mapped.txt");
+        byte[] content = "caf\u00e9 \u5927\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        Files.write(file, content);
+
+        try (InputStream in = FileUtil.openMappedFile(file)) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void writeAtomically_writerSucceeds_replacesFile() throws Exception {
+        Path file = testFolder.resolve("dir").resolve("data.txt");
+        FileUtil.writeAtomically(file, tempFile -> Files.writeString(tempFile, "old"));
+        FileUtil.writeAtomically(file, tempFile -> Files.writeString(tempFile, "new"));
+
+        assertEquals("new", Files.readString(file));
+        assertEquals(List.of(file), Files.list(file.getParent()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_keepsFile() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        Files.writeString(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, tempFile -> {
+            Files.writeString(tempFile, "partly written");
+            throw new IOException("Disk full");
+        }));
+        assertEquals("old", Files.readString(file));
+        assertEquals(List.of(file), Files.list(testFolder).collect(Collectors.toList()));
+    }
+
 }
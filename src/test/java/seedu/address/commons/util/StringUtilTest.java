@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,48 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_validInputs_correctResult() {
+        assertEquals(List.of(), StringUtil.toLowerCaseWords("    "));
+        assertEquals(List.of("aaa", "bbb", "ccc@1", "bbb"), StringUtil.toLowerCaseWords("  AAA   bBb\tccc@1 bbb "));
+    }
+
+    //---------------- Tests for toLowerCase --------------------------------------
+
+    @Test
+    public void toLowerCase_invalidWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.toLowerCase(List.of("  ")));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.toLowerCase(List.of("aaa bbb")));
+    }
+
+    @Test
+    public void toLowerCase_validWords_correctResult() {
+        assertEquals(List.of("abc", "def@1"), StringUtil.toLowerCase(List.of(" ABc ", "DeF@1")));
+    }
+
+    //---------------- Tests for isWithinEditDistance --------------------------------------
+
+    @Test
+    public void isWithinEditDistance_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isWithinEditDistance(null, "abc", 1));
+    }
+
+    @Test
+    public void isWithinEditDistance_validInputs_correctResult() {
+        assertTrue(StringUtil.isWithinEditDistance("database", "database", 0));
+        assertTrue(StringUtil.isWithinEditDistance("databse", "database", 1)); // insertion
+        assertTrue(StringUtil.isWithinEditDistance("databaase", "database", 1)); // deletion
+        assertTrue(StringUtil.isWithinEditDistance("datobase", "database", 1)); // substitution
+        assertTrue(StringUtil.isWithinEditDistance("dtaabase", "database", 2)); // transposition
+        assertTrue(StringUtil.isWithinEditDistance("", "ab", 2));
+
+        assertFalse(StringUtil.isWithinEditDistance("dtaabase", "database", 1));
+        assertFalse(StringUtil.isWithinEditDistance("data", "database", 2));
+        assertFalse(StringUtil.isWithinEditDistance("abcdef", "fedcba", 2));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
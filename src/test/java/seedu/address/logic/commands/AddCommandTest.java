@@ -10,6 +10,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,7 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskQuery;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalTasks;
 
@@ -123,11 +127,41 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void commitAddressBook(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -184,7 +218,62 @@ public class AddCommandTest {
         }
 
         @Override
-        public void update() {
+        public void refreshPerson(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersons(List<String> prefixes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Task> getTasksAssignedTo(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Task> getTaskById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Task> queryTasks(TaskQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveTaskView(String name, String definition, TaskQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasTaskView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteTaskView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Task>> getTaskView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Task> findTasks(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> findSimilarTaskWords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Task, Double> rankTasks(List<String> keywords) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -198,6 +287,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> searchOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void limitFilteredTaskList(int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSortingCriteria(Comparator<Task> comparator) {
             throw new AssertionError("This method should not be called.");
@@ -265,15 +364,6 @@ public class AddCommandTest {
             personsAdded.add(person);
         }
 
-        /**
-         * The update method is used to update the UI, and hence does not need to have any functionality
-         * for testing purposes.
-         */
-        @Override
-        public void update() {
-
-        }
-
         @Override
         public ObservableList<Task> getFilteredTaskList() {
             return FXCollections.observableList(taskList);
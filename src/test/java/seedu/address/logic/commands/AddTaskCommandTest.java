@@ -5,9 +5,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -32,6 +35,7 @@ import seedu.address.model.task.TaskCategoryType;
 import seedu.address.model.task.TaskDeadline;
 import seedu.address.model.task.TaskList;
 import seedu.address.model.task.TaskName;
+import seedu.address.model.task.TaskQuery;
 
 
 public class AddTaskCommandTest {
@@ -42,7 +46,7 @@ public class AddTaskCommandTest {
     private final Priority testPriority = new Priority(PriorityEnum.MEDIUM);
     private final TaskDeadline testDeadline = new TaskDeadline(LocalDate.now());
     private final Person testPerson = new Person(new Name("test"), new Phone("99999999"),
-            new Email("test@gmail.com"), new Address("test"), new HashSet(), new ArrayList<>());
+            new Email("test@gmail.com"), new Address("test"), new HashSet());
     private final Task testTask = new Task(testName, testDisc, testPriority, testCat,
             testDeadline, testPerson, true);
 
@@ -108,11 +112,41 @@ public class AddTaskCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void commitAddressBook(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -169,7 +203,62 @@ public class AddTaskCommandTest {
         }
 
         @Override
-        public void update() {
+        public void refreshPerson(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersons(List<String> prefixes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Task> getTasksAssignedTo(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Task> getTaskById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Task> queryTasks(TaskQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveTaskView(String name, String definition, TaskQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasTaskView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteTaskView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Task>> getTaskView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Task> findTasks(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> findSimilarTaskWords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Task, Double> rankTasks(List<String> keywords) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -183,6 +272,16 @@ public class AddTaskCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> searchOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void limitFilteredTaskList(int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSortingCriteria(Comparator<Task> comparator) {
             throw new AssertionError("This method should not be called.");
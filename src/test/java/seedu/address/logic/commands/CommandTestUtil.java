@@ -132,7 +132,7 @@ public class CommandTestUtil {
     public static final TaskDeadline TEST_DEADLINE_NOW = new TaskDeadline(LocalDate.now());
     public static final TaskDeadline TEST_DEADLINE_TOMORROW = new TaskDeadline(LocalDate.now().plusDays(1));
     private static final Person testPerson = new Person(new Name("test"), new Phone("99999999"),
-            new Email("test@gmail.com"), new Address("test"), new HashSet(), new ArrayList<>());
+            new Email("test@gmail.com"), new Address("test"), new HashSet());
 
     static {
         DESC_AMY = new EditPersonDescriptorBuilder().withName(VALID_NAME_AMY)
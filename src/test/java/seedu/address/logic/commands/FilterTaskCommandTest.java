@@ -31,6 +31,7 @@ import seedu.address.model.task.TaskCategory;
 import seedu.address.model.task.TaskCategoryAndDeadlinePredicate;
 import seedu.address.model.task.TaskCategoryType;
 import seedu.address.model.task.TaskDate;
+import seedu.address.model.task.TaskDateRange;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -171,6 +172,29 @@ public class FilterTaskCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredTaskList());
     }
 
+    @Test
+    public void executeFilterByDateRangeAndCategoryMultipleTasksFound() {
+        String expectedMessage = String.format(MESSAGE_TASK_LISTED_OVERVIEW, 2);
+        FilterTaskCommand.FilterTaskDescriptor testDescriptor = new FilterTaskCommand.FilterTaskDescriptor();
+        testDescriptor.setCategory(testCat2);
+        testDescriptor.setDateRange(TaskDateRange.within(7));
+        FilterTaskCommand command = new FilterTaskCommand(testDescriptor, testFilterInfo, testFilterInfo);
+        expectedModel.updateFilteredTaskList(task -> task.getCategory().equals(testCat2));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(HILLARY, IVY), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void executeFilterByDateRangeNoTasksFound() {
+        String expectedMessage = String.format(MESSAGE_TASK_LISTED_OVERVIEW, 0);
+        FilterTaskCommand.FilterTaskDescriptor testDescriptor = new FilterTaskCommand.FilterTaskDescriptor();
+        testDescriptor.setDateRange(new TaskDateRange(LocalDate.now().plusDays(1), null));
+        FilterTaskCommand command = new FilterTaskCommand(testDescriptor, testFilterInfo, testFilterInfo);
+        expectedModel.updateFilteredTaskList(task -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -9,13 +9,19 @@ import static seedu.address.testutil.TypicalTasks.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.Task;
 import seedu.address.model.task.TaskContainsKeywordsPredicate;
+import seedu.address.testutil.TaskBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -62,6 +68,53 @@ public class FindTaskCommandTest {
     }
 
 
+    @Test
+    public void execute_rankedTasksEditedAndAdded_keepRelevanceOrder() {
+        Task nameHit = new TaskBuilder().withName("Fix button").withDescription(new Description("Routing")).build();
+        Task descriptionHit = new TaskBuilder().withName("Routing")
+                .withDescription(new Description("Fix the button")).build();
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addTask(descriptionHit);
+        model.addTask(nameHit);
+        new FindTaskCommand(prepareTaskPredicate("fix"), true, false).execute(model);
+        assertEquals(List.of(nameHit, descriptionHit), model.getFilteredTaskList());
+
+        // an edited task is a new object, but keeps the relevance of the task it replaces
+        Task editedNameHit = nameHit.withDone(true);
+        model.setTask(nameHit, editedNameHit);
+        assertEquals(List.of(editedNameHit, descriptionHit), model.getFilteredTaskList());
+
+        // a task found after the search was ranked is listed after the ranked tasks
+        Task newNameHit = new TaskBuilder().withName("Fix fix").withDescription(new Description("Fix")).build();
+        model.addTask(newNameHit);
+        assertEquals(List.of(editedNameHit, descriptionHit, newNameHit), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_unrankedAfterRanked_relevanceOrderDropped() {
+        Task nameHit = new TaskBuilder().withName("Fix button").withDescription(new Description("Routing")).build();
+        Task descriptionHit = new TaskBuilder().withName("Routing")
+                .withDescription(new Description("Fix the button")).build();
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addTask(descriptionHit);
+        model.addTask(nameHit);
+        new FindTaskCommand(prepareTaskPredicate("fix"), true, false).execute(model);
+        assertEquals(List.of(nameHit, descriptionHit), model.getFilteredTaskList());
+
+        new FindTaskCommand(prepareTaskPredicate("fix"), false, false).execute(model);
+        assertEquals(List.of(descriptionHit, nameHit), model.getFilteredTaskList());
+
+        // the sort order set before the ranked search is restored
+        Task addTests = new TaskBuilder().withName("Add tests").build();
+        model.addTask(addTests);
+        Comparator<Task> byName = Comparator.comparing(task -> task.getName().getTaskName());
+        model.updateSortingCriteria(byName.reversed());
+        new FindTaskCommand(prepareTaskPredicate("fix"), true, false).execute(model);
+        assertEquals(List.of(nameHit, descriptionHit), model.getFilteredTaskList());
+        model.updateFilteredTaskList(task -> true);
+        assertEquals(List.of(descriptionHit, nameHit, addTests), model.getFilteredTaskList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
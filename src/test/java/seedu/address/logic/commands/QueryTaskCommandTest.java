@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_TASK_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.HILLARY;
+import static seedu.address.testutil.TypicalTasks.IVY;
+import static seedu.address.testutil.TypicalTasks.TASK_ALICE;
+import static seedu.address.testutil.TypicalTasks.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryTaskCommand.SortField;
+import seedu.address.logic.commands.QueryTaskCommand.SortOrder;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskCategory;
+import seedu.address.model.task.TaskCategoryType;
+import seedu.address.model.task.TaskQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryTaskCommand}.
+ */
+public class QueryTaskCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final TaskQuery backendOrA = TaskQuery.or(List.of(
+            TaskQuery.category(new TaskCategory(TaskCategoryType.BACKEND)), TaskQuery.keyword("a")));
+
+    @Test
+    public void equals() {
+        QueryTaskCommand command = new QueryTaskCommand(backendOrA, List.of(), Optional.empty());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new QueryTaskCommand(backendOrA, List.of(), Optional.empty())));
+        assertFalse(command.equals(new QueryTaskCommand(TaskQuery.all(), List.of(), Optional.empty())));
+        assertFalse(command.equals(new QueryTaskCommand(backendOrA,
+                List.of(new SortOrder(SortField.NAME, false)), Optional.empty())));
+        assertFalse(command.equals(new QueryTaskCommand(backendOrA, List.of(), Optional.of(1))));
+        assertFalse(command.equals(null));
+    }
+
+    @Test
+    public void execute_query_matchingTasksFound() {
+        String expectedMessage = String.format(MESSAGE_TASK_LISTED_OVERVIEW, 3);
+        QueryTaskCommand command = new QueryTaskCommand(backendOrA, List.of(), Optional.empty());
+        expectedModel.updateFilteredTaskList(backendOrA);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(TASK_ALICE, HILLARY, IVY), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_orderAndLimit_firstTasksInOrderFound() {
+        String expectedMessage = String.format(MESSAGE_TASK_LISTED_OVERVIEW, 2);
+        SortOrder byCategory = new SortOrder(SortField.CATEGORY, false);
+        SortOrder byNameDescending = new SortOrder(SortField.NAME, true);
+        QueryTaskCommand command = new QueryTaskCommand(backendOrA, List.of(byCategory, byNameDescending),
+                Optional.of(2));
+        expectedModel.updateSortingCriteria(byCategory.toComparator().thenComparing(byNameDescending.toComparator()));
+        expectedModel.updateFilteredTaskList(task -> task == IVY || task == HILLARY);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(IVY, HILLARY), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_limitedTasksChanged_firstTasksStillListed() {
+        SortOrder byCategory = new SortOrder(SortField.CATEGORY, false);
+        SortOrder byNameDescending = new SortOrder(SortField.NAME, true);
+        new QueryTaskCommand(backendOrA, List.of(byCategory, byNameDescending), Optional.of(2)).execute(model);
+
+        // an edited task that still matches stays listed
+        Task editedIvy = IVY.withDone(!IVY.isDone());
+        model.setTask(IVY, editedIvy);
+        assertEquals(List.of(editedIvy, HILLARY), model.getFilteredTaskList());
+
+        // a deleted task is replaced by the next matching task in order
+        model.deleteTask(editedIvy);
+        assertEquals(List.of(HILLARY, TASK_ALICE), model.getFilteredTaskList());
+    }
+}
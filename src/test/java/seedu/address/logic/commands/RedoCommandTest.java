@@ -0,0 +1,31 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingToRedo_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), new ModelManager(), RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_commandUndone_redoesCommand() {
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+        model.commitAddressBook("add n/Alice");
+        model.undoAddressBook();
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(ALICE);
+
+        assertCommandSuccess(new RedoCommand(), model, String.format(RedoCommand.MESSAGE_SUCCESS, "add n/Alice"),
+                expectedModel);
+    }
+}
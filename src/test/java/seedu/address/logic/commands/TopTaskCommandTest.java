@@ -0,0 +1,108 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_TASK_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.PriorityEnum;
+import seedu.address.model.task.SortByUrgency;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskCategory;
+import seedu.address.model.task.TaskCategoryType;
+import seedu.address.model.task.TaskDeadline;
+import seedu.address.model.task.TaskName;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code TopTaskCommand}.
+ */
+public class TopTaskCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        TopTaskCommand topFive = new TopTaskCommand(5);
+
+        assertTrue(topFive.equals(topFive));
+        assertTrue(topFive.equals(new TopTaskCommand(5)));
+        assertFalse(topFive.equals(new TopTaskCommand(TopTaskCommand.DEFAULT_COUNT)));
+        assertFalse(topFive.equals(null));
+    }
+
+    @Test
+    public void execute_moreTasksThanCount_mostUrgentTasksListed() {
+        Task overdue = createTask("Overdue", PriorityEnum.LOW, -1, false);
+        Task overdueDone = createTask("Overdue done", PriorityEnum.HIGH, -2, true);
+        Task dueTodayHigh = createTask("Due today", PriorityEnum.HIGH, 0, false);
+        for (Model m : List.of(model, expectedModel)) {
+            m.addTask(overdue);
+            m.addTask(overdueDone);
+            m.addTask(dueTodayHigh);
+        }
+
+        String expectedMessage = String.format(MESSAGE_TASK_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredTaskList(task -> task == overdue || task == dueTodayHigh);
+        expectedModel.updateSortingCriteria(new SortByUrgency());
+        assertCommandSuccess(new TopTaskCommand(2), model, expectedMessage, expectedModel);
+        assertEquals(List.of(overdue, dueTodayHigh), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_fewerTasksThanCount_allTasksNotDoneListed() {
+        String expectedMessage = String.format(MESSAGE_TASK_LISTED_OVERVIEW, 9);
+        expectedModel.updateSortingCriteria(new SortByUrgency());
+        assertCommandSuccess(new TopTaskCommand(TopTaskCommand.DEFAULT_COUNT), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_listedTasksChanged_listRefilled() {
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        Task overdue = createTask("Overdue", PriorityEnum.LOW, -1, false);
+        Task dueTodayHigh = createTask("Due today", PriorityEnum.HIGH, 0, false);
+        Task dueTomorrow = createTask("Due tomorrow", PriorityEnum.HIGH, 1, false);
+        Task dueLater = createTask("Due later", PriorityEnum.LOW, 7, false);
+        List.of(dueLater, dueTomorrow, dueTodayHigh, overdue).forEach(emptyModel::addTask);
+        new TopTaskCommand(2).execute(emptyModel);
+        assertEquals(List.of(overdue, dueTodayHigh), emptyModel.getFilteredTaskList());
+
+        // an edited task stays listed
+        Task editedOverdue = new Task(new TaskName("Overdue edited"), overdue.getDescription(),
+                overdue.getPriority(), overdue.getCategory(), overdue.getDeadline(), null, false);
+        emptyModel.setTask(overdue, editedOverdue);
+        assertEquals(List.of(editedOverdue, dueTodayHigh), emptyModel.getFilteredTaskList());
+
+        // a deleted task is replaced by the next most urgent task
+        emptyModel.deleteTask(dueTodayHigh);
+        assertEquals(List.of(editedOverdue, dueTomorrow), emptyModel.getFilteredTaskList());
+
+        // a completed task is replaced as well
+        emptyModel.setTask(editedOverdue, editedOverdue.withDone(true));
+        assertEquals(List.of(dueTomorrow, dueLater), emptyModel.getFilteredTaskList());
+
+        // a task that becomes more urgent than the listed tasks is listed
+        Task dueTodayLow = createTask("Due today low", PriorityEnum.LOW, 0, false);
+        emptyModel.addTask(dueTodayLow);
+        assertEquals(List.of(dueTodayLow, dueTomorrow), emptyModel.getFilteredTaskList());
+    }
+
+    private static Task createTask(String name, PriorityEnum priority, int daysFromNow, boolean isDone) {
+        return new Task(new TaskName(name), new Description("Test"), new Priority(priority),
+                new TaskCategory(TaskCategoryType.OTHERS), new TaskDeadline(LocalDate.now().plusDays(daysFromNow)),
+                null, isDone);
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_TASK_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.HILLARY;
+import static seedu.address.testutil.TypicalTasks.IVY;
+import static seedu.address.testutil.TypicalTasks.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.TaskCategory;
+import seedu.address.model.task.TaskCategoryType;
+import seedu.address.model.task.TaskQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SaveViewCommand}, {@code ViewCommand} and
+ * {@code DeleteViewCommand}.
+ */
+public class ViewCommandTest {
+    private static final TaskQuery BACKEND = TaskQuery.category(new TaskCategory(TaskCategoryType.BACKEND));
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ViewCommand viewBacklog = new ViewCommand(Optional.of("backlog"));
+
+        assertTrue(viewBacklog.equals(viewBacklog));
+        assertTrue(viewBacklog.equals(new ViewCommand(Optional.of("backlog"))));
+        assertFalse(viewBacklog.equals(new ViewCommand(Optional.empty())));
+        assertFalse(viewBacklog.equals(null));
+
+        SaveViewCommand saveBacklog = new SaveViewCommand("backlog", "c/backend", BACKEND);
+        assertTrue(saveBacklog.equals(new SaveViewCommand("backlog", "c/BACKEND", BACKEND)));
+        assertFalse(saveBacklog.equals(new SaveViewCommand("backlog", "do/true", TaskQuery.status(true))));
+        assertFalse(saveBacklog.equals(new SaveViewCommand("other", "c/backend", BACKEND)));
+    }
+
+    @Test
+    public void execute_savedView_tasksInViewListed() {
+        expectedModel.saveTaskView("backlog", "c/backend", BACKEND);
+        assertCommandSuccess(new SaveViewCommand("backlog", "c/backend", BACKEND), model,
+                String.format(SaveViewCommand.MESSAGE_SUCCESS, "backlog", BACKEND), expectedModel);
+
+        expectedModel.updateFilteredTaskList(BACKEND);
+        assertCommandSuccess(new ViewCommand(Optional.of("backlog")), model,
+                String.format(MESSAGE_TASK_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(List.of(HILLARY, IVY), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_tasksChangedAfterSaving_viewFollowsChanges() throws Exception {
+        new SaveViewCommand("backlog", "c/backend", BACKEND).execute(model);
+        model.deleteTask(HILLARY);
+
+        new ViewCommand(Optional.of("backlog")).execute(model);
+        assertEquals(List.of(IVY), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_noName_savedViewsListed() {
+        assertCommandSuccess(new ViewCommand(Optional.empty()), model, ViewCommand.MESSAGE_NO_VIEWS, expectedModel);
+
+        model.saveTaskView("backlog", "c/backend", BACKEND);
+        expectedModel.saveTaskView("backlog", "c/backend", BACKEND);
+        assertCommandSuccess(new ViewCommand(Optional.empty()), model,
+                ViewCommand.MESSAGE_LIST_VIEWS + "\nbacklog: c/backend", expectedModel);
+    }
+
+    @Test
+    public void execute_unknownView_throwsCommandException() {
+        String expectedMessage = String.format(ViewCommand.MESSAGE_UNKNOWN_VIEW, "backlog");
+        assertCommandFailure(new ViewCommand(Optional.of("backlog")), model, expectedMessage);
+        assertCommandFailure(new DeleteViewCommand("backlog"), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_deleteSavedView_viewDeleted() {
+        model.saveTaskView("backlog", "c/backend", BACKEND);
+        assertCommandSuccess(new DeleteViewCommand("backlog"), model,
+                String.format(DeleteViewCommand.MESSAGE_SUCCESS, "backlog"), expectedModel);
+        assertFalse(model.hasTaskView("backlog"));
+        assertTrue(model.getTaskView("backlog").isEmpty());
+    }
+}
@@ -31,4 +31,33 @@ public class FindTaskCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Create \n \t Design \t    \n", expectedFindTaskCommand);
     }
+
+    @Test
+    public void parse_relevanceOrder_returnsRankedFindTaskCommand() {
+        FindTaskCommand expectedFindTaskCommand =
+                new FindTaskCommand(new TaskContainsKeywordsPredicate(Arrays.asList("Create", "Design")), true, false);
+        assertParseSuccess(parser, " Create Design o/relevance", expectedFindTaskCommand);
+        assertParseSuccess(parser, " \n Create \t Design o/ReLevance ", expectedFindTaskCommand);
+    }
+
+    @Test
+    public void parse_fuzzyMatch_returnsFuzzyFindTaskCommand() {
+        FindTaskCommand expectedFindTaskCommand =
+                new FindTaskCommand(new TaskContainsKeywordsPredicate(Arrays.asList("databse")), false, true);
+        assertParseSuccess(parser, " databse m/fuzzy", expectedFindTaskCommand);
+        assertParseSuccess(parser, " databse m/FUZZY ", expectedFindTaskCommand);
+
+        assertParseSuccess(parser, " databse o/relevance m/fuzzy",
+                new FindTaskCommand(new TaskContainsKeywordsPredicate(Arrays.asList("databse")), true, true));
+        assertParseFailure(parser, " databse m/exact", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, FindTaskCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidOrder_throwsParseException() {
+        assertParseFailure(parser, " Create o/newest", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, FindTaskCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " o/relevance", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, FindTaskCommand.MESSAGE_USAGE));
+    }
 }
@@ -6,6 +6,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_INTEGER_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -19,6 +20,8 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.task.TaskDateRange;
+import seedu.address.model.task.TaskDeadline;
 
 public class ParserUtilTest {
     private static final String INVALID_NAME = "R@chel";
@@ -193,4 +196,59 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseTaskDateRange_singleDate_returnsDatesOnOrBefore() throws Exception {
+        assertEquals(new TaskDateRange(null, LocalDate.of(2022, 12, 12)),
+                ParserUtil.parseTaskDateRange(WHITESPACE + "2022-12-12" + WHITESPACE));
+    }
+
+    @Test
+    public void parseTaskDateRange_range_returnsRange() throws Exception {
+        assertEquals(new TaskDateRange(LocalDate.of(2022, 12, 1), LocalDate.of(2022, 12, 31)),
+                ParserUtil.parseTaskDateRange("2022-12-01..2022-12-31"));
+        assertEquals(new TaskDateRange(LocalDate.of(2022, 12, 1), null),
+                ParserUtil.parseTaskDateRange("2022-12-01.."));
+        assertEquals(new TaskDateRange(null, LocalDate.of(2022, 12, 31)),
+                ParserUtil.parseTaskDateRange("..2022-12-31"));
+    }
+
+    @Test
+    public void parseTaskDateRange_invalidRange_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseTaskDateRange(".."));
+        assertThrows(ParseException.class, () -> ParserUtil.parseTaskDateRange("2022-12-31..2022-12-01"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseTaskDateRange("2022-12-01..tomorrow"));
+    }
+
+    @Test
+    public void parseDueWithin_validDays_returnsRangeFromToday() throws Exception {
+        TaskDateRange range = ParserUtil.parseDueWithin(" 7 ");
+        assertEquals(TaskDateRange.within(7), range);
+        assertTrue(range.isRelative());
+        assertEquals("within 7 days", range.toString());
+        assertThrows(ParseException.class, () -> ParserUtil.parseDueWithin("-1"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDueWithin("99999999999"));
+    }
+
+    @Test
+    public void parseLimit_invalidLimit_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseLimit("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseLimit("+5"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseLimit("99999999999"));
+    }
+
+    @Test
+    public void parseLimit_validLimit_returnsLimit() throws Exception {
+        assertEquals(20, ParserUtil.parseLimit(" 20 "));
+    }
+
+    @Test
+    public void parseTaskDeadline_pastDate_throwsParseException() {
+        assertThrows(ParseException.class, TaskDeadline.MESSAGE_PAST, () -> ParserUtil.parseTaskDeadline("2000-01-01"));
+    }
+
+    @Test
+    public void parseTaskDeadline_futureDate_returnsDeadline() throws Exception {
+        assertEquals(new TaskDeadline(LocalDate.of(2999, 12, 31)), ParserUtil.parseTaskDeadline(" 2999-12-31 "));
+    }
 }
@@ -0,0 +1,93 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryTaskCommand;
+import seedu.address.logic.commands.QueryTaskCommand.SortField;
+import seedu.address.logic.commands.QueryTaskCommand.SortOrder;
+import seedu.address.model.person.Email;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.PriorityEnum;
+import seedu.address.model.task.TaskCategory;
+import seedu.address.model.task.TaskCategoryType;
+import seedu.address.model.task.TaskDateRange;
+import seedu.address.model.task.TaskQuery;
+
+public class QueryTaskCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryTaskCommand.MESSAGE_USAGE);
+
+    private final QueryTaskCommandParser parser = new QueryTaskCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_andBindsTighterThanOr_returnsQueryTaskCommand() {
+        TaskQuery backend = TaskQuery.category(new TaskCategory(TaskCategoryType.BACKEND));
+        TaskQuery high = TaskQuery.priority(new Priority(PriorityEnum.HIGH));
+        TaskQuery fix = TaskQuery.keyword("fix");
+        TaskQuery expectedQuery = TaskQuery.or(List.of(TaskQuery.and(List.of(backend, high)), fix));
+
+        assertParseSuccess(parser, " c/backend AND pr/high OR fix",
+                new QueryTaskCommand(expectedQuery, List.of(), Optional.empty()));
+
+        // AND is assumed between conditions without an operator
+        assertParseSuccess(parser, " c/backend pr/high OR Fix",
+                new QueryTaskCommand(expectedQuery, List.of(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_notAndParentheses_returnsQueryTaskCommand() {
+        TaskQuery expectedQuery = TaskQuery.and(List.of(
+                TaskQuery.not(TaskQuery.or(List.of(TaskQuery.status(true),
+                        TaskQuery.assignee(new Email("alice@example.com"))))),
+                TaskQuery.deadline(new TaskDateRange(LocalDate.of(2022, 12, 1), null))));
+
+        assertParseSuccess(parser, " NOT (do/true OR pe/alice@example.com) dl/2022-12-01..",
+                new QueryTaskCommand(expectedQuery, List.of(), Optional.empty()));
+        assertParseSuccess(parser, " NOT(do/t OR pe/alice@example.com)AND dl/2022-12-01..",
+                new QueryTaskCommand(expectedQuery, List.of(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_orderAndLimit_returnsQueryTaskCommand() {
+        List<SortOrder> expectedOrders = List.of(new SortOrder(SortField.PRIORITY, true),
+                new SortOrder(SortField.DEADLINE, false), new SortOrder(SortField.NAME, false));
+
+        assertParseSuccess(parser, " o/priority:desc o/Deadline:ASC o/name lim/5",
+                new QueryTaskCommand(TaskQuery.all(), expectedOrders, Optional.of(5)));
+        assertParseSuccess(parser, " c/backend lim/1",
+                new QueryTaskCommand(TaskQuery.category(new TaskCategory(TaskCategoryType.BACKEND)), List.of(),
+                        Optional.of(1)));
+    }
+
+    @Test
+    public void parse_invalidExpression_throwsParseException() {
+        assertParseFailure(parser, " c/backend AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " OR c/backend", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " (c/backend OR pr/high", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " c/backend)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " NOT", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, " dl/2022-12-31..2022-12-01", TaskDateRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " fix lim/0", ParserUtil.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " fix lim/-1", ParserUtil.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " fix o/assignee", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " fix o/priority:up", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SaveViewCommand;
+import seedu.address.model.task.TaskCategory;
+import seedu.address.model.task.TaskCategoryType;
+import seedu.address.model.task.TaskQuery;
+
+public class SaveViewCommandParserTest {
+
+    private final SaveViewCommandParser parser = new SaveViewCommandParser();
+
+    @Test
+    public void parse_nameAndQuery_returnsSaveViewCommand() {
+        TaskQuery query = TaskQuery.and(List.of(TaskQuery.category(new TaskCategory(TaskCategoryType.BACKEND)),
+                TaskQuery.not(TaskQuery.status(true))));
+        assertParseSuccess(parser, " backlog  c/backend NOT do/true ",
+                new SaveViewCommand("backlog", "c/backend NOT do/true", query));
+    }
+
+    @Test
+    public void parse_missingQuery_throwsParseException() {
+        assertParseFailure(parser, " backlog ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveViewCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, " back/log c/backend", ParserUtil.MESSAGE_INVALID_VIEW_NAME);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.TopTaskCommand;
+
+public class TopTaskCommandParserTest {
+
+    private final TopTaskCommandParser parser = new TopTaskCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsDefaultCount() {
+        assertParseSuccess(parser, "   ", new TopTaskCommand(TopTaskCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_validCount_returnsTopTaskCommand() {
+        assertParseSuccess(parser, " 5 ", new TopTaskCommand(5));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, " 0", ParserUtil.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " five", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -9,10 +11,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,7 +24,15 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.PriorityEnum;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskCategory;
+import seedu.address.model.task.TaskCategoryType;
+import seedu.address.model.task.TaskDeadline;
+import seedu.address.model.task.TaskName;
+import seedu.address.model.task.exceptions.DuplicateTaskIdException;
 import seedu.address.testutil.PersonBuilder;
 
 
@@ -80,11 +92,105 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void setPersonAndRemovePerson_assignedTasks_reassigned() {
+        Task fixBug = createTask("Fix bug", ALICE);
+        Task writeDocs = createTask("Write docs", null);
+        addressBook.addPerson(ALICE);
+        addressBook.addTask(fixBug);
+        addressBook.addTask(writeDocs);
+        assertEquals(Set.of(fixBug), addressBook.getTasksAssignedTo(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.org").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        Task reassignedFixBug = addressBook.getTaskById(fixBug.getId()).get();
+        assertSame(editedAlice, reassignedFixBug.getPerson());
+        assertSame(ALICE, fixBug.getPerson());
+        assertTrue(addressBook.getTasksAssignedTo(ALICE).isEmpty());
+        assertEquals(Set.of(reassignedFixBug), addressBook.getTasksAssignedTo(editedAlice));
+
+        addressBook.removePerson(editedAlice);
+        Task unassignedFixBug = addressBook.getTaskById(fixBug.getId()).get();
+        assertNull(unassignedFixBug.getPerson());
+        assertTrue(addressBook.getTasksAssignedTo(editedAlice).isEmpty());
+        assertEquals(List.of(unassignedFixBug, writeDocs), addressBook.getTaskList());
+    }
+
+    @Test
+    public void addTaskAndSetTask_ids_foundById() {
+        Task fixBug = createTask("Fix bug", null);
+        addressBook.addTask(fixBug);
+        assertSame(fixBug, addressBook.getTaskById(fixBug.getId()).get());
+
+        Task editedFixBug = createTask(fixBug.getId(), "Fix bugs");
+        addressBook.setTask(fixBug, editedFixBug);
+        assertSame(editedFixBug, addressBook.getTaskById(fixBug.getId()).get());
+
+        addressBook.removeTask(editedFixBug);
+        assertFalse(addressBook.getTaskById(fixBug.getId()).isPresent());
+    }
+
+    @Test
+    public void addTask_taskOfOtherAddressBook_added() {
+        Task shared = createTask("Shared", null);
+        Task fresh = createTask("Fresh", null);
+        AddressBook otherAddressBook = new AddressBook();
+        addressBook.addTask(shared);
+        otherAddressBook.addTask(fresh);
+
+        otherAddressBook.addTask(shared);
+        assertSame(shared, otherAddressBook.getTaskById(shared.getId()).get());
+        assertSame(fresh, otherAddressBook.getTaskById(fresh.getId()).get());
+    }
+
+    @Test
+    public void addTask_idLoaded_newIdsFollowLoadedId() {
+        long loadedId = createTask("Fix bug", null).getId() + 1000;
+        addressBook.setTasks(List.of(createTask(loadedId, "Fix bug")));
+
+        Task newTask = createTask("Write docs", null);
+        addressBook.addTask(newTask);
+        assertTrue(newTask.getId() > loadedId);
+    }
+
+    @Test
+    public void setTasks_duplicateIds_throwsDuplicateTaskIdException() {
+        long id = createTask("Fix bug", null).getId();
+        List<Task> tasks = List.of(createTask(id, "Fix bug"), createTask(id, "Write docs"));
+        assertThrows(DuplicateTaskIdException.class, () -> addressBook.setTasks(tasks));
+    }
+
+    @Test
+    public void getSnapshot_addressBookChangedLater_snapshotUnchanged() {
+        Task fixBug = createTask("Fix bug", ALICE);
+        addressBook.addPerson(ALICE);
+        addressBook.addTask(fixBug);
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.org").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addTask(createTask("Write docs", null));
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(List.of(fixBug), snapshot.getTaskList());
+        assertSame(snapshot, snapshot.getSnapshot());
+        assertEquals(addressBook.getTaskList(), addressBook.getSnapshot().getTaskList());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    private static Task createTask(String name, Person assignee) {
+        return new Task(new TaskName(name), new Description("Test"), new Priority(PriorityEnum.LOW),
+                new TaskCategory(TaskCategoryType.OTHERS), new TaskDeadline(LocalDate.now()), assignee, false);
+    }
+
+    private static Task createTask(long id, String name) {
+        return new Task(id, new TaskName(name), new Description("Test"), new Priority(PriorityEnum.LOW),
+                new TaskCategory(TaskCategoryType.OTHERS), new TaskDeadline(LocalDate.now()), null, false);
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -11,12 +11,14 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.TypicalTasks;
 
 public class ModelManagerTest {
 
@@ -93,6 +95,62 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void undoAddressBook_nothingCommitted_returnsEmpty() {
+        modelManager.addPerson(ALICE);
+        assertFalse(modelManager.canUndoAddressBook());
+        assertEquals(Optional.empty(), modelManager.undoAddressBook());
+        assertEquals(Optional.empty(), modelManager.redoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_deletePersonWithTasks_restoresPersonAndTasks() {
+        modelManager = new ModelManager(TypicalTasks.getTypicalAddressBook(), new UserPrefs());
+        AddressBook original = new AddressBook(modelManager.getAddressBook());
+        modelManager.deletePerson(modelManager.getAddressBook().getPersonList().get(0));
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook("delete 1");
+        AddressBook changed = new AddressBook(modelManager.getAddressBook());
+
+        assertTrue(modelManager.canUndoAddressBook());
+        assertEquals(Optional.of("delete 1"), modelManager.undoAddressBook());
+        assertEquals(original, modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        assertTrue(modelManager.canRedoAddressBook());
+        assertEquals(Optional.of("delete 1"), modelManager.redoAddressBook());
+        assertEquals(changed, modelManager.getAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_clear_restoresAddressBook() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook("add");
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.commitAddressBook("clear");
+
+        assertEquals(Optional.of("clear"), modelManager.undoAddressBook());
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                modelManager.getAddressBook());
+        assertEquals(Optional.of("add"), modelManager.undoAddressBook());
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_afterUndo_forgetsRedo() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook("add 1");
+        modelManager.undoAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook("add 2");
+
+        assertFalse(modelManager.canRedoAddressBook());
+        assertEquals(Optional.of("add 2"), modelManager.undoAddressBook());
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
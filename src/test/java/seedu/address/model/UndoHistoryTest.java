@@ -0,0 +1,145 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class UndoHistoryTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_negativeMemoryBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistory(-1, null));
+    }
+
+    @Test
+    public void undo_overMemoryBudgetWithSpill_undoesSpilledEntries() {
+        SpillStub spill = new SpillStub();
+        UndoHistory history = new UndoHistory(0, spill);
+        add(history, ALICE);
+        add(history, BENSON);
+        add(history, CARL);
+        assertEquals(2, spill.entries.size());
+
+        assertEquals(Optional.of("add " + CARL.getName()), history.undo(addressBook));
+        assertEquals(Optional.of("add " + BENSON.getName()), history.undo(addressBook));
+        assertEquals(Optional.of("add " + ALICE.getName()), history.undo(addressBook));
+        assertTrue(spill.isEmpty());
+        assertFalse(history.canUndo());
+        assertEquals(new AddressBook(), addressBook);
+
+        history.redo(addressBook);
+        history.redo(addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(), addressBook);
+    }
+
+    @Test
+    public void undo_overMemoryBudgetWithoutSpill_dropsOldestEntries() {
+        UndoHistory history = new UndoHistory(0, null);
+        add(history, ALICE);
+        add(history, BENSON);
+
+        assertEquals(Optional.of("add " + BENSON.getName()), history.undo(addressBook));
+        assertFalse(history.canUndo());
+        assertEquals(Optional.empty(), history.undo(addressBook));
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), addressBook);
+    }
+
+    @Test
+    public void undo_spillFails_dropsSpilledEntries() {
+        SpillStub spill = new SpillStub();
+        UndoHistory history = new UndoHistory(0, spill);
+        add(history, ALICE);
+        add(history, BENSON);
+        spill.isFailing = true;
+
+        history.undo(addressBook);
+        assertEquals(Optional.empty(), history.undo(addressBook));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undo_addressBookChangedOutsideHistory_refusesAndForgetsHistory() {
+        UndoHistory history = new UndoHistory(UserPrefs.DEFAULT_UNDO_MEMORY_BUDGET, null);
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        history.record(AddressBookChange.ofPersons(0, List.of(), List.of(ALICE)));
+        history.record(AddressBookChange.ofPersons(1, List.of(), List.of(BENSON)));
+        history.commit("add two");
+
+        // removing BENSON is undone again once ALICE is found to have changed
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        AddressBook expectedAddressBook = new AddressBookBuilder().withPerson(editedAlice).withPerson(BENSON).build();
+
+        assertEquals(Optional.empty(), history.undo(addressBook));
+        assertEquals(expectedAddressBook, addressBook);
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_nothingRecorded_doesNothing() {
+        UndoHistory history = new UndoHistory(UserPrefs.DEFAULT_UNDO_MEMORY_BUDGET, null);
+        history.commit("list");
+        assertFalse(history.canUndo());
+    }
+
+    /**
+     * Adds {@code person} to the address book and records it as a command.
+     */
+    private void add(UndoHistory history, Person person) {
+        int index = addressBook.getPersonList().size();
+        addressBook.addPerson(person);
+        history.record(AddressBookChange.ofPersons(index, List.of(), List.of(person)));
+        history.commit("add " + person.getName());
+    }
+
+    /**
+     * A spill that keeps its entries in memory.
+     */
+    private static class SpillStub implements UndoHistory.Spill {
+        private final Deque<UndoHistory.Entry> entries = new ArrayDeque<>();
+        private boolean isFailing;
+
+        @Override
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        @Override
+        public void push(UndoHistory.Entry entry) {
+            entries.push(entry);
+        }
+
+        @Override
+        public UndoHistory.Entry pop() throws IOException {
+            if (isFailing) {
+                throw new IOException("Spill failed");
+            }
+            return entries.pop();
+        }
+
+        @Override
+        public void clear() {
+            entries.clear();
+        }
+    }
+}
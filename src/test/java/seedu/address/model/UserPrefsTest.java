@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +22,31 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFormat(null));
+    }
+
+    @Test
+    public void setUndoMemoryBudget_negativeBudget_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoMemoryBudget(-1));
+    }
+
+    @Test
+    public void putSavedTaskView_viewsCopiedAndCompared() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.putSavedTaskView("backlog", "c/backend NOT do/true");
+        assertEquals(Map.of("backlog", "c/backend NOT do/true"), userPrefs.getSavedTaskViews());
+        assertThrows(UnsupportedOperationException.class, () -> userPrefs.getSavedTaskViews().clear());
+
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertEquals(userPrefs, copy);
+
+        copy.removeSavedTaskView("backlog");
+        assertNotEquals(userPrefs, copy);
+        assertEquals(Map.of("backlog", "c/backend NOT do/true"), userPrefs.getSavedTaskViews());
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -65,4 +66,13 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("if.you.dream.it_you.can.do.it@example.com")); // long local part
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
+
+    @Test
+    public void equalsAndHashCode_differentCase_equal() {
+        Email email = new Email("PeterJack@Example.com");
+        Email lowerCaseEmail = new Email("peterjack@example.com");
+        assertTrue(email.equals(lowerCaseEmail));
+        assertEquals(email.hashCode(), lowerCaseEmail.hashCode());
+        assertFalse(email.equals(new Email("peter@example.com")));
+    }
 }
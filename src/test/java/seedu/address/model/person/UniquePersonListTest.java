@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -100,6 +101,38 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(BOB, uniquePersonList.getPersonByEmail(BOB.getEmail()));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPersonByEmail(ALICE.getEmail()));
+    }
+
+    @Test
+    public void getPersonByEmail_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPersonByEmail(ALICE.getEmail()));
+        assertEquals(ALICE, uniquePersonList.getPersonByEmail(new Email(ALICE.getEmail().value.toUpperCase())));
+    }
+
+    @Test
+    public void getPersonByEmail_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPersonByEmail(ALICE.getEmail()));
+    }
+
+    @Test
+    public void refresh_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.refresh(ALICE));
+    }
+
+    @Test
+    public void refresh_afterEarlierPersonRemoved_refreshesShiftedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+
+        uniquePersonList.refresh(BOB);
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(List.of(editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.refresh(BOB));
     }
 
     @Test
@@ -120,6 +153,33 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void findByPrefixes_matchesNameEmailAndPhonePrefixes() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+
+        assertEquals(Set.of(ALICE), uniquePersonList.findByPrefixes(List.of("ali")));
+        assertEquals(Set.of(ALICE), uniquePersonList.findByPrefixes(List.of("PAUL")));
+        assertEquals(Set.of(BOB), uniquePersonList.findByPrefixes(List.of("bob@")));
+        assertEquals(Set.of(ALICE, BOB), uniquePersonList.findByPrefixes(List.of("9435", "choo")));
+        assertTrue(uniquePersonList.findByPrefixes(List.of("lice")).isEmpty());
+    }
+
+    @Test
+    public void findByPrefixes_afterChanges_indexUpdated() {
+        Set<Person> found = uniquePersonList.findByPrefixes(List.of("paul"));
+        uniquePersonList.add(ALICE);
+        assertTrue(found.contains(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(found.isEmpty());
+        assertEquals(Set.of(editedAlice), uniquePersonList.findByPrefixes(List.of("ta")));
+
+        uniquePersonList.remove(editedAlice);
+        assertTrue(uniquePersonList.findByPrefixes(List.of("ta")).isEmpty());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
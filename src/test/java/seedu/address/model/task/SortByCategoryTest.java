@@ -3,7 +3,6 @@ package seedu.address.model.task;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
@@ -21,7 +20,7 @@ public class SortByCategoryTest {
     private static final Priority testPriority = new Priority(PriorityEnum.MEDIUM);
     private static final TaskDeadline testDeadline = new TaskDeadline(LocalDate.now());
     private static final Person testPerson = new Person(new Name("test"), new Phone("99999999"),
-            new Email("test@gmail.com"), new Address("test"), new HashSet(), new ArrayList<>());
+            new Email("test@gmail.com"), new Address("test"), new HashSet());
     public static final Task ALICE = new Task(new TaskName("A"),
             testDisc, testPriority, testCat, testDeadline, testPerson, false);
     public static final Task BENSON = new Task(new TaskName("B"),
@@ -3,7 +3,6 @@ package seedu.address.model.task;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
@@ -24,7 +23,7 @@ public class SortByDeadlineTest {
     private static final TaskDeadline testDeadline3 = new TaskDeadline(LocalDate.of(2024, 12,
             12));
     private static final Person testPerson = new Person(new Name("test"), new Phone("99999999"),
-            new Email("test@gmail.com"), new Address("test"), new HashSet(), new ArrayList<>());
+            new Email("test@gmail.com"), new Address("test"), new HashSet());
     public static final Task ALICE = new Task(new TaskName("A"),
             testDisc, testPriority, testCat, testDeadline, testPerson, false);
     public static final Task BENSON = new Task(new TaskName("B"),
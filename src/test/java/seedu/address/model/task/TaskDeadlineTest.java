@@ -10,7 +10,6 @@ import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.model.task.exceptions.DatePastException;
 
 public class TaskDeadlineTest {
 
@@ -24,8 +23,10 @@ public class TaskDeadlineTest {
     }
 
     @Test
-    public void constructor_null_dateAlreadyPastException() {
-        assertThrows(DatePastException.class, () -> new TaskDeadline(LocalDate.MIN));
+    public void isPast() {
+        assertTrue(new TaskDeadline(LocalDate.MIN).isPast());
+        assertTrue(new TaskDeadline(LocalDate.of(2000, 1, 1)).isPast());
+        assertFalse(new TaskDeadline(LocalDate.MAX).isPast());
     }
 
     @Test
@@ -1,14 +1,22 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -29,7 +37,7 @@ public class TaskListTest {
     private final Priority testPriority = new Priority(PriorityEnum.MEDIUM);
     private final TaskDeadline testDeadline = new TaskDeadline(LocalDate.now());
     private final Person testPerson = new Person(new Name("test"), new Phone("99999999"),
-            new Email("test@gmail.com"), new Address("test"), new HashSet(), new ArrayList<>());
+            new Email("test@gmail.com"), new Address("test"), new HashSet());
     private final Task testTask = new Task(testName, testDisc, testPriority, testCat, testDeadline,
             testPerson, true);
 
@@ -38,6 +46,15 @@ public class TaskListTest {
         assertThrows(NullPointerException.class, () -> new TaskList().contains(null));
     }
 
+    @Test
+    public void contains_taskWithSameNameInList_returnsTrue() {
+        testList.add(testTask);
+        Task sameNameTask = new Task(testName, new Description("Other"), new Priority(PriorityEnum.HIGH),
+                new TaskCategory(TaskCategoryType.BACKEND), testDeadline, null, false);
+        assertTrue(testList.contains(sameNameTask));
+        assertEquals(testTask, testList.find(sameNameTask));
+    }
+
     @Test
     public void add_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new TaskList().contains(null));
@@ -60,6 +77,23 @@ public class TaskListTest {
         assertThrows(TaskNotFoundException.class, () -> new TaskList().delete(testTask));
     }
 
+    @Test
+    public void delete_taskInList_removesFromIndex() {
+        testList.add(testTask);
+        testList.delete(testTask);
+        assertFalse(testList.contains(testTask));
+    }
+
+    @Test
+    public void edit_renamedTask_updatesIndex() {
+        testList.add(testTask);
+        Task renamedTask = new Task(new TaskName("Renamed"), testDisc, testPriority, testCat, testDeadline,
+                testPerson, true);
+        testList.edit(testTask, renamedTask);
+        assertFalse(testList.contains(testTask));
+        assertTrue(testList.contains(renamedTask));
+    }
+
     @Test
     public void edit_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new TaskList().edit(null, testTask));
@@ -71,6 +105,71 @@ public class TaskListTest {
         assertThrows(TaskNotFoundException.class, () -> new TaskList().edit(testTask, testTask));
     }
 
+    @Test
+    public void editAll_taskNotInList_throwsTaskNotFoundException() {
+        assertThrows(TaskNotFoundException.class, () -> new TaskList().editAll(Map.of(testTask,
+                testTask.withDone(false))));
+    }
+
+    @Test
+    public void editAll_differentName_throwsIllegalArgumentException() {
+        Task renamedTask = new Task(new TaskName("Renamed"), testDisc, testPriority, testCat, testDeadline, null,
+                false);
+        testList.add(testTask);
+        assertThrows(IllegalArgumentException.class, () -> testList.editAll(Map.of(testTask, renamedTask)));
+        assertEquals(List.of(testTask), testList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void editAll_taskInList_firesReplaceChange() {
+        testList.add(testTask);
+        List<Boolean> wasReplaced = new ArrayList<>();
+        testList.asUnmodifiableObservableList().addListener((ListChangeListener<Task>) change -> {
+            while (change.next()) {
+                wasReplaced.add(change.wasReplaced() && change.getFrom() == 0);
+            }
+        });
+        Task undoneTask = testTask.withDone(false);
+        testList.editAll(Map.of(testTask, undoneTask));
+        assertEquals(List.of(true), wasReplaced);
+        assertEquals(List.of(undoneTask), testList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void editAll_earlierTaskRemoved_editsShiftedTasks() {
+        Task firstTask = new Task(new TaskName("First"), testDisc, testPriority, testCat, testDeadline, null, false);
+        Task lastTask = new Task(new TaskName("Last"), testDisc, testPriority, testCat, testDeadline, null, false);
+        testList.add(firstTask);
+        testList.add(testTask);
+        testList.add(lastTask);
+        testList.delete(firstTask);
+        Task undoneTask = testTask.withDone(false);
+        Task doneLastTask = lastTask.withDone(true);
+        testList.editAll(Map.of(testTask, undoneTask, lastTask, doneLastTask));
+        assertEquals(List.of(undoneTask, doneLastTask), testList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void editAll_someTasksNotInList_noTaskEdited() {
+        testList.add(testTask);
+        Task otherTask = new Task(new TaskName("Other"), testDisc, testPriority, testCat, testDeadline, null, false);
+        assertThrows(TaskNotFoundException.class, () -> testList.editAll(Map.of(testTask, testTask.withDone(false),
+                otherTask, otherTask.withDone(true))));
+        assertEquals(List.of(testTask), testList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replace_tasksDifferFromExpected_throwsTaskNotFoundException() {
+        testList.add(testTask);
+        Task undoneTask = testTask.withDone(false);
+        assertThrows(TaskNotFoundException.class, () -> testList.replace(0, List.of(undoneTask), List.of()));
+        assertThrows(TaskNotFoundException.class, () -> testList.replace(1, List.of(testTask), List.of()));
+        assertEquals(List.of(testTask), testList.asUnmodifiableObservableList());
+
+        testList.replace(0, List.of(testTask), List.of(undoneTask));
+        assertEquals(List.of(undoneTask), testList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void find_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new TaskList().find(null));
@@ -86,6 +185,205 @@ public class TaskListTest {
         assertThrows(NullPointerException.class, () -> new TaskList().filter((Priority) null));
         assertThrows(NullPointerException.class, () -> new TaskList().filter((TaskCategory) null));
         assertThrows(NullPointerException.class, () -> new TaskList().filter((TaskDeadline) null));
+        assertThrows(NullPointerException.class, () -> new TaskList().filter((Person) null));
+    }
+
+    @Test
+    public void filter_indexedAttributes_returnsMatchingTasks() {
+        Task backendTask = new Task(new TaskName("Backend"), testDisc, new Priority(PriorityEnum.HIGH),
+                new TaskCategory(TaskCategoryType.BACKEND), new TaskDeadline(LocalDate.now().plusDays(1)), null, false);
+        testList.add(testTask);
+        testList.add(backendTask);
+
+        assertEquals(Set.of(testTask), testList.filter(testCat));
+        assertEquals(Set.of(backendTask), testList.filter(new Priority(PriorityEnum.HIGH)));
+        assertEquals(Set.of(testTask), testList.filter(true));
+        assertEquals(Set.of(testTask), testList.filter(testPerson));
+        assertEquals(Set.of(testTask), testList.filter(testDeadline));
+        assertTrue(testList.filter(new TaskCategory(TaskCategoryType.UIUX)).isEmpty());
+    }
+
+    @Test
+    public void filter_multipleCriteria_returnsIntersection() {
+        Task doneBackendTask = new Task(new TaskName("Done backend"), testDisc, testPriority,
+                new TaskCategory(TaskCategoryType.BACKEND), testDeadline, testPerson, true);
+        Task backendTask = new Task(new TaskName("Backend"), testDisc, testPriority,
+                new TaskCategory(TaskCategoryType.BACKEND), testDeadline, null, false);
+        testList.setTasks(Arrays.asList(testTask, doneBackendTask, backendTask));
+
+        Set<Task> filtered = testList.filter(Optional.of(new TaskCategory(TaskCategoryType.BACKEND)),
+                Optional.of(testPriority), Optional.empty(), Optional.of(true), Optional.empty());
+        assertEquals(Set.of(doneBackendTask), filtered);
+        assertEquals(3, testList.filter(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty()).size());
+
+        // the intersection follows later changes to the list
+        Task doneTask = backendTask.withDone(true);
+        testList.edit(backendTask, doneTask);
+        assertEquals(Set.of(doneBackendTask, doneTask), filtered);
+        testList.delete(doneBackendTask);
+        assertEquals(Set.of(doneTask), filtered);
+    }
+
+    @Test
+    public void filter_dateRange_returnsTasksInRange() {
+        LocalDate today = LocalDate.now();
+        Task dueTomorrow = new Task(new TaskName("Tomorrow"), testDisc, testPriority, testCat,
+                new TaskDeadline(today.plusDays(1)), null, false);
+        Task dueNextWeek = new Task(new TaskName("Next week"), testDisc, testPriority, testCat,
+                new TaskDeadline(today.plusDays(7)), null, false);
+        testList.setTasks(Arrays.asList(testTask, dueTomorrow, dueNextWeek));
+
+        assertEquals(Set.of(testTask, dueTomorrow), testList.filter(TaskDateRange.within(1)));
+        assertEquals(Set.of(dueTomorrow, dueNextWeek), testList.filter(new TaskDateRange(today.plusDays(1), null)));
+        assertEquals(Set.of(testTask), testList.filter(TaskDateRange.onOrBefore(new TaskDate(today))));
+        assertEquals(2, testList.filter(new TaskDateRange(null, today.plusDays(6))).size());
+        assertTrue(testList.filter(new TaskDateRange(today.plusDays(2), today.plusDays(6))).isEmpty());
+
+        // range views follow later changes to the list
+        Set<Task> dueThisWeek = testList.filter(TaskDateRange.within(6));
+        Task dueSooner = new Task(new TaskName("Next week"), testDisc, testPriority, testCat,
+                new TaskDeadline(today.plusDays(2)), null, false);
+        testList.edit(dueNextWeek, dueSooner);
+        assertEquals(Set.of(testTask, dueTomorrow, dueSooner), dueThisWeek);
+    }
+
+    @Test
+    public void findByKeywords_matchesNameOrDescriptionWords() {
+        Task fixButton = new Task(new TaskName("Fix button"), new Description("Dark mode  BUTTON"), testPriority,
+                testCat, testDeadline, null, false);
+        testList.setTasks(Arrays.asList(testTask, fixButton));
+
+        Set<Task> found = testList.findByKeywords(Arrays.asList("button", "TEST"));
+        assertEquals(Set.of(testTask, fixButton), found);
+        assertEquals(2, found.size());
+        assertEquals(Set.of(fixButton), testList.findByKeywords(List.of("dark")));
+        assertTrue(testList.findByKeywords(List.of("butt")).isEmpty());
+
+        // the words of edited tasks are re-indexed
+        Task editedTask = new Task(new TaskName("Fix routing"), new Description("Dark mode"), testPriority, testCat,
+                testDeadline, null, false);
+        testList.edit(fixButton, editedTask);
+        assertEquals(Set.of(testTask), found);
+        assertEquals(Set.of(editedTask), testList.findByKeywords(List.of("routing")));
+    }
+
+    @Test
+    public void getMostUrgent_tasksChanged_orderedByDeadlineThenPriority() {
+        LocalDate today = LocalDate.now();
+        Task dueLater = new Task(new TaskName("Later"), testDisc, new Priority(PriorityEnum.HIGH), testCat,
+                new TaskDeadline(today.plusDays(2)), null, false);
+        Task dueTodayLow = new Task(new TaskName("Low"), testDisc, new Priority(PriorityEnum.LOW), testCat,
+                new TaskDeadline(today), null, false);
+        Task dueTodayHigh = new Task(new TaskName("High"), testDisc, new Priority(PriorityEnum.HIGH), testCat,
+                new TaskDeadline(today), null, false);
+        testList.setTasks(Arrays.asList(dueLater, testTask, dueTodayLow, dueTodayHigh));
+
+        // testTask is done
+        assertEquals(List.of(dueTodayHigh, dueTodayLow, dueLater), testList.getMostUrgent(5));
+        assertEquals(List.of(dueTodayHigh, dueTodayLow), testList.getMostUrgent(2));
+        assertEquals(List.of(), testList.getMostUrgent(0));
+
+        testList.edit(dueTodayHigh, dueTodayHigh.withDone(true));
+        testList.delete(dueTodayLow);
+        assertEquals(List.of(dueLater), testList.getMostUrgent(2));
+    }
+
+    @Test
+    public void materializeView_tasksChanged_viewUpdatedIncrementally() {
+        Task high = new Task(new TaskName("High"), testDisc, new Priority(PriorityEnum.HIGH), testCat,
+                testDeadline, null, false);
+        Task low = new Task(new TaskName("Low"), testDisc, new Priority(PriorityEnum.LOW), testCat,
+                testDeadline, null, false);
+        testList.setTasks(Arrays.asList(testTask, high));
+        Set<Task> view = testList.materializeView("high",
+                task -> task.getPriority().getPriority() == PriorityEnum.HIGH);
+        assertEquals(Set.of(high), view);
+
+        testList.add(low);
+        Task raised = new Task(new TaskName("Low"), testDisc, new Priority(PriorityEnum.HIGH), testCat,
+                testDeadline, null, false);
+        testList.edit(low, raised);
+        assertEquals(Set.of(high, raised), view);
+
+        testList.delete(high);
+        assertEquals(Set.of(raised), view);
+        assertEquals(Optional.of(Set.of(raised)), testList.getView("high"));
+
+        // views are recomputed when every task is replaced
+        testList.setTasks(Arrays.asList(testTask, high));
+        assertEquals(Set.of(high), view);
+
+        testList.dematerializeView("high");
+        assertTrue(testList.getView("high").isEmpty());
+    }
+
+    @Test
+    public void findSimilarWords_misspeltKeywords_correctedWithinEditDistance() {
+        Task database = new Task(new TaskName("Migrate database"), new Description("Move to the new schema"),
+                testPriority, testCat, testDeadline, null, false);
+        testList.setTasks(Arrays.asList(testTask, database));
+
+        assertEquals(List.of("database"), testList.findSimilarWords(List.of("DATABSE")));
+        assertEquals(List.of("migrate"), testList.findSimilarWords(List.of("migrtae")));
+        assertEquals(List.of("schema"), testList.findSimilarWords(List.of("shema")));
+        assertEquals(Set.of(database), testList.findByKeywords(testList.findSimilarWords(List.of("databse"))));
+
+        // short keywords must match exactly, and keywords too far from any word match nothing
+        assertEquals(List.of("to"), testList.findSimilarWords(List.of("to")));
+        assertTrue(testList.findSimilarWords(List.of("tp")).isEmpty());
+        assertTrue(testList.findSimilarWords(List.of("dtbs")).isEmpty());
+
+        // words of deleted tasks are dropped from the trigram index
+        testList.delete(database);
+        assertTrue(testList.findSimilarWords(List.of("databse")).isEmpty());
+    }
+
+    @Test
+    public void rankByKeywords_nameHitsAndRareWords_rankHigher() {
+        Task nameHit = new Task(new TaskName("Fix button"), new Description("Routing"), testPriority, testCat,
+                testDeadline, null, false);
+        Task descriptionHit = new Task(new TaskName("Routing"), new Description("Fix the button"), testPriority,
+                testCat, testDeadline, null, false);
+        Task bothWords = new Task(new TaskName("Dark mode button"), new Description("Dark button"), testPriority,
+                testCat, testDeadline, null, false);
+        testList.setTasks(Arrays.asList(testTask, nameHit, descriptionHit, bothWords));
+
+        Map<Task, Double> scores = testList.rankByKeywords(List.of("fix"));
+        assertEquals(Set.of(nameHit, descriptionHit), scores.keySet());
+        assertTrue(scores.get(nameHit) > scores.get(descriptionHit));
+
+        // "dark" appears in fewer tasks than "button", so it counts for more
+        scores = testList.rankByKeywords(List.of("BUTTON", "dark"));
+        assertTrue(scores.get(bothWords) > scores.get(nameHit));
+        assertTrue(scores.get(nameHit) > scores.get(descriptionHit));
+
+        testList.delete(bothWords);
+        assertEquals(Set.of(nameHit, descriptionHit), testList.rankByKeywords(List.of("button", "dark")).keySet());
+    }
+
+    @Test
+    public void filter_afterChanges_indexUpdated() {
+        Set<Task> othersTasks = testList.filter(testCat);
+        Set<Task> assignedTasks = testList.filter(testPerson);
+        testList.add(testTask);
+        assertTrue(othersTasks.contains(testTask));
+
+        // unassigned
+        Task unassignedTask = testTask.withPerson(null);
+        testList.edit(testTask, unassignedTask);
+        assertFalse(assignedTasks.contains(testTask));
+        assertFalse(assignedTasks.contains(unassignedTask));
+
+        // replaced
+        Task editedTask = new Task(testName, testDisc, testPriority, new TaskCategory(TaskCategoryType.UIUX),
+                testDeadline, null, true);
+        testList.edit(unassignedTask, editedTask);
+        assertTrue(othersTasks.isEmpty());
+        assertEquals(Set.of(editedTask), testList.filter(new TaskCategory(TaskCategoryType.UIUX)));
+
+        testList.delete(editedTask);
+        assertTrue(testList.filter(new TaskCategory(TaskCategoryType.UIUX)).isEmpty());
     }
 
     @Test
@@ -94,4 +392,10 @@ public class TaskListTest {
         assertThrows(NullPointerException.class, () -> new TaskList().setTasks((List<Task>) null));
     }
 
+    @Test
+    public void setTasks_listWithDuplicateTasks_throwsDuplicateTaskException() {
+        List<Task> listWithDuplicateTasks = Arrays.asList(testTask, testTask.copy());
+        assertThrows(DuplicateTaskException.class, () -> testList.setTasks(listWithDuplicateTasks));
+    }
+
 }
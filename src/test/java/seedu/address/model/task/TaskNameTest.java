@@ -27,4 +27,13 @@ public class TaskNameTest {
         assertTrue(TaskName.isValidTaskName(validDescription));
         assertFalse(TaskName.isValidTaskName(invalidDescription));
     }
+
+    @Test
+    public void getWords() {
+        TaskName name = new TaskName("Fix  Dark mode");
+        assertTrue(name.getWords().contains("dark"));
+        assertTrue(name.getWords().contains("fix"));
+        assertFalse(name.getWords().contains("Dark")); // words are cached in lower case
+        assertFalse(name.getWords().contains("dar")); // not a full word
+    }
 }
@@ -0,0 +1,132 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskQueryTest {
+
+    private static final TaskCategory OTHERS = new TaskCategory(TaskCategoryType.OTHERS);
+    private static final TaskCategory BACKEND = new TaskCategory(TaskCategoryType.BACKEND);
+    private static final Priority HIGH = new Priority(PriorityEnum.HIGH);
+    private static final Priority LOW = new Priority(PriorityEnum.LOW);
+
+    private final Task fixButton = createTask("Fix button", OTHERS, LOW, 1, false);
+    private final Task fixRouting = createTask("Fix routing", OTHERS, LOW, 5, true);
+    private final Task writeDocs = createTask("Write docs", OTHERS, LOW, 10, false);
+    private final Task migrateDatabase = createTask("Migrate database", BACKEND, HIGH, 3, false);
+
+    @Test
+    public void and_emptyQueries_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TaskQuery.and(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> TaskQuery.or(List.of()));
+    }
+
+    @Test
+    public void keyword_multipleWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TaskQuery.keyword("fix button"));
+    }
+
+    @Test
+    public void plan_and_looksUpMostSelectiveCondition() {
+        TaskIndex index = indexOf(fixButton, fixRouting, writeDocs, migrateDatabase);
+        TaskQuery query = TaskQuery.and(List.of(TaskQuery.category(OTHERS), TaskQuery.keyword("FIX"),
+                TaskQuery.status(false)));
+
+        TaskQuery.Plan plan = query.plan(index);
+        assertEquals(Set.of(fixButton, fixRouting), plan.getCandidates());
+        assertEquals(2, plan.getEstimatedSize());
+        assertEquals(List.of(fixButton), matching(plan.toPredicate()));
+    }
+
+    @Test
+    public void plan_or_looksUpUnionOfConditions() {
+        TaskIndex index = indexOf(fixButton, fixRouting, writeDocs, migrateDatabase);
+        TaskQuery query = TaskQuery.or(List.of(TaskQuery.priority(HIGH), TaskQuery.keyword("docs")));
+
+        TaskQuery.Plan plan = query.plan(index);
+        assertFalse(plan.hasResidual());
+        assertEquals(Set.of(writeDocs, migrateDatabase), plan.getCandidates());
+
+        // an OR with an unindexed part has to scan every task
+        query = TaskQuery.or(List.of(TaskQuery.priority(HIGH), TaskQuery.not(TaskQuery.category(OTHERS))));
+        plan = query.plan(index);
+        assertTrue(plan.hasResidual());
+        assertEquals(List.of(migrateDatabase), matching(plan.toPredicate()));
+    }
+
+    @Test
+    public void plan_notAndDeadline_residualTested() {
+        TaskIndex index = indexOf(fixButton, fixRouting, writeDocs, migrateDatabase);
+        LocalDate today = LocalDate.now();
+        TaskQuery query = TaskQuery.and(List.of(
+                TaskQuery.deadline(new TaskDateRange(today.plusDays(2), today.plusDays(10))),
+                TaskQuery.not(TaskQuery.or(List.of(TaskQuery.status(true), TaskQuery.category(BACKEND))))));
+
+        TaskQuery.Plan plan = query.plan(index);
+        assertEquals(Set.of(fixRouting, writeDocs, migrateDatabase), plan.getCandidates());
+        assertEquals(List.of(writeDocs), matching(plan.toPredicate()));
+        assertEquals(List.of(writeDocs), matching(query));
+    }
+
+    @Test
+    public void query_tasksChangedLater_predicateFollowsChanges() {
+        TaskList taskList = new TaskList();
+        taskList.setTasks(Arrays.asList(fixButton, writeDocs));
+        Predicate<Task> predicate = taskList.query(TaskQuery.and(List.of(TaskQuery.keyword("fix"),
+                TaskQuery.status(false))));
+        assertTrue(predicate.test(fixButton));
+        assertFalse(predicate.test(fixRouting));
+
+        taskList.add(fixRouting);
+        Task undoneFixRouting = fixRouting.withDone(false);
+        taskList.edit(fixRouting, undoneFixRouting);
+        assertTrue(predicate.test(undoneFixRouting));
+    }
+
+    @Test
+    public void toString_nestedQueries_parenthesized() {
+        TaskQuery query = TaskQuery.and(List.of(TaskQuery.category(BACKEND),
+                TaskQuery.or(List.of(TaskQuery.priority(HIGH), TaskQuery.keyword("Fix"))),
+                TaskQuery.not(TaskQuery.status(true))));
+        assertEquals("category backend AND (priority high OR \"fix\") AND NOT done", query.toString());
+    }
+
+    @Test
+    public void equals() {
+        TaskQuery query = TaskQuery.or(List.of(TaskQuery.priority(HIGH), TaskQuery.keyword("fix")));
+
+        assertTrue(query.equals(TaskQuery.or(List.of(TaskQuery.priority(HIGH), TaskQuery.keyword("FIX")))));
+        assertFalse(query.equals(TaskQuery.and(List.of(TaskQuery.priority(HIGH), TaskQuery.keyword("fix")))));
+        assertFalse(query.equals(TaskQuery.or(List.of(TaskQuery.priority(LOW), TaskQuery.keyword("fix")))));
+        assertFalse(query.equals(TaskQuery.not(query)));
+        assertFalse(query.equals(null));
+    }
+
+    private List<Task> matching(Predicate<Task> predicate) {
+        return List.of(fixButton, fixRouting, writeDocs, migrateDatabase).stream()
+                .filter(predicate).collect(Collectors.toList());
+    }
+
+    private static TaskIndex indexOf(Task... tasks) {
+        TaskIndex index = new TaskIndex();
+        index.setAll(Arrays.asList(tasks));
+        return index;
+    }
+
+    private static Task createTask(String name, TaskCategory category, Priority priority, int daysFromNow,
+                                   boolean isDone) {
+        return new Task(new TaskName(name), new Description("Test"), priority, category,
+                new TaskDeadline(LocalDate.now().plusDays(daysFromNow)), null, isDone);
+    }
+}
@@ -1,12 +1,12 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.TASK_ALICE;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
@@ -26,7 +26,7 @@ public class TaskTest {
     private static final Priority testPriority = new Priority(PriorityEnum.MEDIUM);
     private static final TaskDeadline testDeadline = new TaskDeadline(LocalDate.now());
     private static final Person testPerson = new Person(new Name("test"), new Phone("99999999"),
-            new Email("test@gmail.com"), new Address("test"), new HashSet(), new ArrayList<>());
+            new Email("test@gmail.com"), new Address("test"), new HashSet());
 
     //different attributes as alice
     private static final TaskCategory testCat2 = new TaskCategory(TaskCategoryType.BACKEND);
@@ -35,7 +35,23 @@ public class TaskTest {
     private static final TaskDeadline testDeadline2 = new
             TaskDeadline(LocalDate.of(2022, 12, 12));
     private static final Person testPerson2 = new Person(new Name("test"), new Phone("99999998"),
-            new Email("test@gmail.com"), new Address("test"), new HashSet(), new ArrayList<>());
+            new Email("test@gmail.com"), new Address("test"), new HashSet());
+
+    @Test
+    public void constructor_id_keptByCopies() {
+        assertThrows(IllegalArgumentException.class, () -> new Task(-5, new TaskName("Set id"), testDisc,
+                testPriority, testCat, testDeadline, null, false));
+
+        Task task = new Task(7, new TaskName("Set id"), testDisc, testPriority, testCat, testDeadline, null, false);
+        assertEquals(7, task.getId());
+        assertEquals(7, task.withDone(true).getId());
+        assertEquals(7, task.withPerson(testPerson).getId());
+        assertEquals(7, task.copy().getId());
+
+        // ids drawn after an id is given are greater than it
+        Task otherTask = new Task(new TaskName("Other"), testDisc, testPriority, testCat, testDeadline, null, false);
+        assertTrue(otherTask.getId() > 7);
+    }
 
     @Test
     public void constructor_null_throwsNullPointerException() {
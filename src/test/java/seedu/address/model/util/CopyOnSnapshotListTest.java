@@ -0,0 +1,60 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CopyOnSnapshotListTest {
+
+    private final CopyOnSnapshotList<String> list = new CopyOnSnapshotList<>();
+
+    @Test
+    public void listOperations_likeArrayList() {
+        list.addAll(List.of("a", "b", "c"));
+        list.add(1, "d");
+        list.set(0, "e");
+        assertEquals("c", list.remove(3));
+        assertEquals(List.of("e", "d", "b"), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+
+        for (int i = 0; i < 100; i++) {
+            list.add(Integer.toString(i));
+        }
+        assertEquals(103, list.size());
+        assertEquals("99", list.get(102));
+
+        list.clear();
+        assertEquals(List.of(), list);
+    }
+
+    @Test
+    public void snapshot_listChangedLater_snapshotUnchanged() {
+        list.addAll(List.of("a", "b"));
+        List<String> snapshot = list.snapshot();
+        assertSame(snapshot, list.snapshot());
+
+        list.add("c");
+        list.set(0, "d");
+        list.remove("b");
+        assertEquals(List.of("a", "b"), snapshot);
+        assertEquals(List.of("d", "c"), list);
+
+        List<String> secondSnapshot = list.snapshot();
+        assertNotSame(snapshot, secondSnapshot);
+        list.clear();
+        assertEquals(List.of("d", "c"), secondSnapshot);
+        assertEquals(List.of(), list.snapshot());
+    }
+
+    @Test
+    public void snapshot_modify_throwsUnsupportedOperationException() {
+        list.add("a");
+        assertThrows(UnsupportedOperationException.class, () -> list.snapshot().add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.snapshot().set(0, "b"));
+    }
+}
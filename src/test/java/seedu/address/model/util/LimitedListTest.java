@@ -0,0 +1,85 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class LimitedListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d");
+    private final LimitedList<String> limitedList = new LimitedList<>(source);
+    /** A copy of the view kept up to date only through the changes it reports. */
+    private final List<String> mirror = new ArrayList<>(limitedList);
+
+    @BeforeEach
+    public void setUp() {
+        limitedList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    List<String> permuted = new ArrayList<>(mirror);
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        permuted.set(change.getPermutation(i), mirror.get(i));
+                    }
+                    mirror.clear();
+                    mirror.addAll(permuted);
+                } else {
+                    mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                    mirror.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void setLimit_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> limitedList.setLimit(-1));
+    }
+
+    @Test
+    public void setLimit_limitChanged_firstElementsShown() {
+        limitedList.setLimit(2);
+        assertShown("a", "b");
+        limitedList.setLimit(0);
+        assertShown();
+        limitedList.setLimit(LimitedList.NO_LIMIT);
+        assertShown("a", "b", "c", "d");
+    }
+
+    @Test
+    public void sourceChanged_noLimit_changesPassedThrough() {
+        source.add(1, "e");
+        source.remove("c");
+        source.set(0, "f");
+        FXCollections.sort(source);
+        assertShown("b", "d", "e", "f");
+    }
+
+    @Test
+    public void sourceChanged_limited_viewRefilled() {
+        limitedList.setLimit(2);
+        source.remove("a");
+        assertShown("b", "c");
+        source.set(0, "e");
+        assertShown("e", "c");
+        source.add(0, "f");
+        assertShown("f", "e");
+        source.add("g");
+        assertShown("f", "e");
+        source.clear();
+        assertShown();
+    }
+
+    private void assertShown(String... elements) {
+        assertEquals(List.of(elements), limitedList);
+        assertEquals(List.of(elements), mirror);
+    }
+}
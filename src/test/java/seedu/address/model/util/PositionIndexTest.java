@@ -0,0 +1,58 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionIndexTest {
+
+    private final List<String> list = new ArrayList<>();
+    private final PositionIndex<String, String> positions = new PositionIndex<>(list, String::toLowerCase);
+
+    @Test
+    public void indexOf_elementsAddedAndReplaced_returnsPositions() {
+        add("a");
+        add("b");
+        list.set(0, "C");
+        positions.remove("a");
+        positions.put("C", 0);
+
+        assertEquals(0, positions.indexOf("c"));
+        assertEquals(1, positions.indexOf("b"));
+        assertEquals(-1, positions.indexOf("a"));
+    }
+
+    @Test
+    public void indexOf_elementsShifted_returnsShiftedPositions() {
+        add("a");
+        add("b");
+        add("c");
+        positions.remove(list.remove(0));
+        list.add(1, "d");
+        positions.put("d", 1);
+
+        assertEquals(0, positions.indexOf("b"));
+        assertEquals(1, positions.indexOf("d"));
+        assertEquals(2, positions.indexOf("c"));
+        assertEquals(-1, positions.indexOf("a"));
+    }
+
+    @Test
+    public void reindex_listReplaced_returnsNewPositions() {
+        add("a");
+        list.clear();
+        list.addAll(List.of("b", "a"));
+        positions.reindex();
+
+        assertEquals(1, positions.indexOf("a"));
+        assertEquals(0, positions.indexOf("b"));
+    }
+
+    private void add(String element) {
+        positions.put(element, list.size());
+        list.add(element);
+    }
+}
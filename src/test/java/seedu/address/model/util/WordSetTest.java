@@ -0,0 +1,59 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+public class WordSetTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> WordSet.of(null));
+    }
+
+    @Test
+    public void contains() {
+        WordSet words = WordSet.of(" Fix  the Button ");
+        assertTrue(words.contains("fix"));
+        assertTrue(words.contains("button"));
+        assertFalse(words.contains("Fix")); // words are kept in lower case
+        assertFalse(words.contains("butt")); // not a full word
+        assertFalse(words.contains(""));
+    }
+
+    @Test
+    public void containsAny() {
+        WordSet words = WordSet.of("Fix the button");
+        assertTrue(words.containsAny(List.of("menu", "button")));
+        assertFalse(words.containsAny(List.of("menu", "bar")));
+        assertFalse(words.containsAny(List.of()));
+    }
+
+    @Test
+    public void countsAndLength() {
+        WordSet words = WordSet.of("Fix the button on the menu");
+        assertEquals(List.of("fix", "the", "button", "on", "menu"), List.copyOf(words.words()));
+        assertEquals(2, words.count("the"));
+        assertEquals(1, words.count("fix"));
+        assertEquals(0, words.count("bar"));
+        assertEquals(6, words.length());
+        assertEquals(0, WordSet.of("  ").length());
+    }
+
+    @Test
+    public void of_turkishDefaultLocale_lowerCasesCapitalI() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr"));
+            assertTrue(WordSet.of("FIX").contains("fix"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
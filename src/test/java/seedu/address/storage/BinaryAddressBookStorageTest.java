@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.task.Task;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        }
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_corruptStringLength_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+            out.writeInt(1);
+            out.writeLong(0);
+            out.writeInt(Integer.MAX_VALUE);
+        }
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_pastDeadline_taskLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+            out.writeInt(0);
+            out.writeInt(1);
+            out.writeLong(BinaryAddressBookStorage.NO_ID);
+            writeString(out, "Fix bug");
+            writeString(out, "Fix the bug");
+            out.writeByte(0);
+            out.writeByte(0);
+            out.writeInt(0);
+            out.writeBoolean(false);
+            out.writeInt(-1);
+        }
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(LocalDate.EPOCH, readBack.getTaskList().get(0).getDeadline().getDeadline());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_assignedTasks_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // persons and tasks link to each other, so compare them through their json form
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                JsonUtil.toJsonString(new JsonSerializableAddressBook(readBack)));
+
+        // assigned persons are the persons in the read address book, not copies
+        for (Task task : readBack.getTaskList()) {
+            if (task.getPerson() != null) {
+                assertSame(readBack.getPersonList().get(0), task.getPerson());
+            }
+        }
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath)
+                .saveAddressBook(null));
+    }
+
+    @Test
+    public void convert_jsonToBinaryToJson_sameFile() throws Exception {
+        Path jsonPath = testFolder.resolve("AddressBook.json");
+        Path binaryPath = testFolder.resolve("AddressBook.bin");
+        Path convertedJsonPath = testFolder.resolve("ConvertedAddressBook.json");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+
+        AddressBookFormatConverter.convert(jsonPath, AddressBookFormat.JSON, binaryPath, AddressBookFormat.BINARY);
+        AddressBookFormatConverter.convert(binaryPath, AddressBookFormat.BINARY,
+                convertedJsonPath, AddressBookFormat.JSON);
+        assertEquals(Files.readString(jsonPath), Files.readString(convertedJsonPath));
+    }
+
+    @Test
+    public void convertInPlace_otherFormat_convertsFile() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String json = Files.readString(filePath);
+
+        assertTrue(AddressBookFormatConverter.convertInPlace(filePath, AddressBookFormat.BINARY));
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertFalse(AddressBookFormatConverter.convertInPlace(filePath, AddressBookFormat.BINARY));
+
+        assertTrue(AddressBookFormatConverter.convertInPlace(filePath, AddressBookFormat.JSON));
+        assertEquals(json, Files.readString(filePath));
+        assertFalse(AddressBookFormatConverter.convertInPlace(testFolder.resolve("Missing"), AddressBookFormat.JSON));
+    }
+
+    @Test
+    public void convert_missingFile_throwsIoException() {
+        Path jsonPath = testFolder.resolve("NonExistentFile.json");
+        Path binaryPath = testFolder.resolve("AddressBook.bin");
+        assertThrows(IOException.class, () -> AddressBookFormatConverter.convert(
+                jsonPath, AddressBookFormat.JSON, binaryPath, AddressBookFormat.BINARY));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalTasks.TASK_ALICE;
+import static seedu.address.testutil.TypicalTasks.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = testFolder.resolve("addressbook.json.journal.1");
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void save_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        addressBook.addPerson(HOON);
+        addressBook.removeTask(TASK_ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertSameData(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void save_journalPastThreshold_snapshotRewritten() throws Exception {
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(journalPath));
+        assertSameData(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertSameData(addressBook, storage.readAddressBook().get());
+
+        // changes after compaction go to the new journal
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertSameData(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void read_incompleteLastRecord_ignored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Files.writeString(journalPath, "{\"op\":\"ADD_PERSON\",\"ind", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        assertSameData(addressBook, storage.readAddressBook().get());
+
+        // a new journal after restarting drops the incomplete record before appending
+        JournaledAddressBookStorage restarted =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook readBack = new AddressBook(restarted.readAddressBook().get());
+        restarted.saveAddressBook(readBack);
+        readBack.addPerson(IDA);
+        restarted.saveAddressBook(readBack);
+        assertSameData(readBack, restarted.readAddressBook().get());
+    }
+
+    @Test
+    public void read_invalidRecord_throwsDataConversionException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Files.writeString(journalPath, "{\"op\":\"REMOVE_PERSON\",\"index\":100}\n", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void save_anotherAddressBook_snapshotRewritten() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalPath));
+
+        AddressBook other = new AddressBook();
+        other.addPerson(IDA);
+        storage.saveAddressBook(other);
+        assertFalse(Files.exists(journalPath));
+        assertSameData(other, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        // changes to the previous address book are no longer recorded
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(other);
+        assertSameData(other, storage.readAddressBook().get());
+    }
+
+    /**
+     * Persons and tasks link to each other, so they are compared through their json form.
+     */
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(expected)),
+                JsonUtil.toJsonString(new JsonSerializableAddressBook(actual)));
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.TaskName;
+
+public class JsonAdaptedTaskConverterTest {
+
+    private static JsonAdaptedTask task(String name, String description) {
+        return new JsonAdaptedTask(name, "others", description, "medium", "2099-01-01", null, "false");
+    }
+
+    @Test
+    public void addAll_manyValidTasks_addedInOrder() throws Exception {
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(task("Task " + i, "Description"));
+        }
+        AddressBook addressBook = new AddressBook();
+        JsonAdaptedTaskConverter converter = new JsonAdaptedTaskConverter(addressBook);
+
+        converter.addAll(tasks.subList(0, 600));
+        converter.addAll(tasks.subList(600, 1000));
+        converter.checkAllAdded();
+
+        assertEquals(1000, addressBook.getTaskList().size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("Task " + i, addressBook.getTaskList().get(i).getName().getTaskName());
+        }
+    }
+
+    @Test
+    public void checkAllAdded_invalidTasks_reportsAll() {
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        tasks.add(task("Valid", "Description"));
+        tasks.add(task("R@chel", "Description"));
+        tasks.add(task("Valid", "Description"));
+        tasks.add(task("Other", " "));
+        AddressBook addressBook = new AddressBook();
+        JsonAdaptedTaskConverter converter = new JsonAdaptedTaskConverter(addressBook);
+        converter.addAll(tasks);
+
+        String expectedMessage = String.format(JsonAdaptedTaskConverter.MESSAGE_INVALID_TASKS, 3)
+                + "\n" + String.format(JsonAdaptedTaskConverter.MESSAGE_INVALID_TASK, 2, TaskName.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(JsonAdaptedTaskConverter.MESSAGE_INVALID_TASK, 3,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASK)
+                + "\n" + String.format(JsonAdaptedTaskConverter.MESSAGE_INVALID_TASK, 4,
+                        Description.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, converter::checkAllAdded);
+        assertEquals(1, addressBook.getTaskList().size());
+    }
+
+    @Test
+    public void checkAllAdded_pastDeadlineInParallelBatch_allAdded() throws Exception {
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(task("Task " + i, "Description"));
+        }
+        tasks.set(500, new JsonAdaptedTask("Overdue", "others", "Description", "medium", "2000-01-01", null,
+                "false"));
+        AddressBook addressBook = new AddressBook();
+        JsonAdaptedTaskConverter converter = new JsonAdaptedTaskConverter(addressBook);
+        converter.addAll(tasks);
+
+        // a deadline that has passed since it was saved does not make the task invalid
+        converter.checkAllAdded();
+        assertEquals(1000, addressBook.getTaskList().size());
+    }
+
+    @Test
+    public void checkAllAdded_manyInvalidTasks_listsSome() {
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(task("R@chel", "Description"));
+        }
+        JsonAdaptedTaskConverter converter = new JsonAdaptedTaskConverter(new AddressBook());
+        converter.addAll(tasks);
+
+        try {
+            converter.checkAllAdded();
+        } catch (IllegalValueException ive) {
+            String[] lines = ive.getMessage().split("\n");
+            assertEquals(JsonAdaptedTaskConverter.MAX_LISTED_INVALID_TASKS + 2, lines.length);
+            assertTrue(lines[lines.length - 1].contains(String.valueOf(1000
+                    - JsonAdaptedTaskConverter.MAX_LISTED_INVALID_TASKS)));
+            return;
+        }
+        throw new AssertionError("Expected IllegalValueException");
+    }
+}
@@ -2,15 +2,15 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.storage.JsonAdaptedTask.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.TASK_ALICE;
 import static seedu.address.testutil.TypicalTasks.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.Email;
-import seedu.address.model.person.Person;
 import seedu.address.model.task.Description;
 import seedu.address.model.task.Priority;
 import seedu.address.model.task.Task;
@@ -35,12 +35,26 @@ public class JsonAdaptedTaskTest {
     private static final String VALID_EMAIL = TASK_ALICE.getEmail().toString();
     private static final String VALID_IS_DONE = Task.convertIsDoneFromBooleanToString(TASK_ALICE.isDone());
 
-    private static final ObservableList<Person> persons = getTypicalAddressBook().getPersonList();
+    private static final AddressBook addressBook = getTypicalAddressBook();
 
     @Test
     public void toModelType_validTaskDetails_returnsTask() throws Exception {
         JsonAdaptedTask task = new JsonAdaptedTask(TASK_ALICE);
-        assertEquals(TASK_ALICE, task.toModelType(persons));
+        assertEquals(TASK_ALICE, task.toModelType(addressBook));
+    }
+
+    @Test
+    public void toModelType_withId_returnsTaskWithId() throws Exception {
+        JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CATEGORY_NAME, VALID_DESCRIPTION,
+                VALID_PRIORITY, VALID_DEADLINE, VALID_EMAIL, VALID_IS_DONE, 42L);
+        assertEquals(42L, task.toModelType(addressBook).getId());
+    }
+
+    @Test
+    public void toModelType_negativeId_throwsIllegalValueException() {
+        JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CATEGORY_NAME, VALID_DESCRIPTION,
+                VALID_PRIORITY, VALID_DEADLINE, VALID_EMAIL, VALID_IS_DONE, -2L);
+        assertThrows(IllegalValueException.class, Task.ID_MESSAGE_CONSTRAINT, () -> task.toModelType(addressBook));
     }
 
     @Test
@@ -50,7 +64,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(INVALID_NAME, VALID_CATEGORY_NAME, VALID_DESCRIPTION,
                     VALID_PRIORITY, VALID_DEADLINE, VALID_EMAIL, VALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -64,7 +78,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(null, VALID_CATEGORY_NAME, VALID_DESCRIPTION,
                     VALID_PRIORITY, VALID_DEADLINE, VALID_EMAIL, VALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -78,7 +92,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, INVALID_CATEGORY_NAME, VALID_DESCRIPTION,
                     VALID_PRIORITY, VALID_DEADLINE, VALID_EMAIL, VALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -92,7 +106,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, null, VALID_DESCRIPTION,
                     VALID_PRIORITY, VALID_DEADLINE, VALID_EMAIL, VALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -106,7 +120,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CATEGORY_NAME, INVALID_DESCRIPTION,
                     VALID_PRIORITY, VALID_DEADLINE, VALID_EMAIL, VALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -120,7 +134,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CATEGORY_NAME, null,
                     VALID_PRIORITY, VALID_DEADLINE, VALID_EMAIL, VALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -134,7 +148,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CATEGORY_NAME, VALID_DESCRIPTION,
                     INVALID_PRIORITY, VALID_DEADLINE, VALID_EMAIL, VALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -148,7 +162,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CATEGORY_NAME, VALID_DESCRIPTION,
                     null, VALID_DEADLINE, VALID_EMAIL, VALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -162,7 +176,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CATEGORY_NAME, VALID_DESCRIPTION,
                     VALID_PRIORITY, INVALID_DEADLINE, VALID_EMAIL, VALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -176,7 +190,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CATEGORY_NAME, VALID_DESCRIPTION,
                     VALID_PRIORITY, null, VALID_EMAIL, VALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -190,7 +204,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CATEGORY_NAME, VALID_DESCRIPTION,
                     VALID_PRIORITY, VALID_DEADLINE, VALID_EMAIL, INVALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -204,7 +218,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CATEGORY_NAME, VALID_DESCRIPTION,
                     VALID_PRIORITY, VALID_DEADLINE, VALID_EMAIL, null);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -218,7 +232,7 @@ public class JsonAdaptedTaskTest {
         try {
             JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CATEGORY_NAME, VALID_DESCRIPTION,
                     VALID_PRIORITY, VALID_DEADLINE, INVALID_EMAIL, VALID_IS_DONE);
-            Task t = task.toModelType(persons);
+            Task t = task.toModelType(addressBook);
         } catch (IllegalValueException e) {
             message = e.getMessage();
         }
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalTasks.TASK_ALICE;
+import static seedu.address.testutil.TypicalTasks.TASK_BENSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.UndoHistory;
+import seedu.address.model.task.Task;
+
+public class JsonUndoHistorySpillTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonUndoHistorySpill(null));
+    }
+
+    @Test
+    public void pushAndPop_entries_poppedNewestFirst() throws Exception {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.resolve("undo.json"));
+        UndoHistory.Entry personEntry = new UndoHistory.Entry("edit 1", List.of(
+                AddressBookChange.ofPersons(0, List.of(ALICE), List.of(BENSON))));
+        UndoHistory.Entry taskEntry = new UndoHistory.Entry("addtask", List.of(
+                AddressBookChange.ofTasks(2, List.of(), List.of(TASK_ALICE, TASK_BENSON)),
+                AddressBookChange.ofPersons(1, List.of(BENSON), List.of())));
+        assertTrue(spill.isEmpty());
+
+        spill.push(personEntry);
+        spill.push(taskEntry);
+        assertFalse(spill.isEmpty());
+
+        UndoHistory.Entry poppedTaskEntry = spill.pop();
+        assertEquals(taskEntry, poppedTaskEntry);
+        Task poppedTask = (Task) poppedTaskEntry.getChanges().get(0).getAdded().get(0);
+        assertEquals(TASK_ALICE.getPerson(), poppedTask.getPerson());
+
+        // entries pushed after a pop are read back in order too
+        spill.push(taskEntry);
+        assertEquals(taskEntry, spill.pop());
+        assertEquals(personEntry, spill.pop());
+        assertTrue(spill.isEmpty());
+        assertEquals(0, Files.size(spill.getFilePath()));
+    }
+
+    @Test
+    public void clear_entriesPushed_deletesFile() throws Exception {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.resolve("undo.json"));
+        spill.push(new UndoHistory.Entry("add", List.of(AddressBookChange.ofPersons(0, List.of(), List.of(ALICE)))));
+
+        spill.clear();
+        assertTrue(spill.isEmpty());
+        assertFalse(Files.exists(spill.getFilePath()));
+    }
+
+    @Test
+    public void pop_fileTruncated_throwsIoException() throws Exception {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.resolve("undo.json"));
+        spill.push(new UndoHistory.Entry("add", List.of(AddressBookChange.ofPersons(0, List.of(), List.of(ALICE)))));
+
+        Files.write(spill.getFilePath(), new byte[0]);
+        assertThrows(IOException.class, spill::pop);
+    }
+
+    @Test
+    public void pop_invalidEntry_throwsIoExceptionAndKeepsEntry() throws Exception {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.resolve("undo.json"));
+        spill.push(new UndoHistory.Entry("add", List.of(AddressBookChange.ofPersons(0, List.of(), List.of(ALICE)))));
+        String line = Files.readString(spill.getFilePath());
+        String invalidLine = line.replace(ALICE.getName().fullName, ALICE.getName().fullName.replace('e', '!'));
+        Files.writeString(spill.getFilePath(), invalidLine);
+
+        assertThrows(IOException.class, spill::pop);
+        assertFalse(spill.isEmpty());
+        assertEquals(invalidLine, Files.readString(spill.getFilePath()));
+    }
+}
@@ -2,8 +2,13 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -60,9 +66,80 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_writeBehind() throws Exception {
+        SaveCountingAddressBookStorage addressBookStorage = new SaveCountingAddressBookStorage(getTempFilePath("ab"));
+        StorageManager writeBehindStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorageManager.saveAddressBook(original);
+        writeBehindStorageManager.flushAddressBook();
+        ReadOnlyAddressBook retrieved = writeBehindStorageManager.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+        assertEquals(1, addressBookStorage.saveCount);
+
+        // nothing pending -> not saved again
+        writeBehindStorageManager.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount);
+
+        // changed address book -> saved again
+        original.removePerson(ALICE);
+        writeBehindStorageManager.saveAddressBook(original);
+        writeBehindStorageManager.flushAddressBook();
+        retrieved = writeBehindStorageManager.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+        assertEquals(2, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void saveAddressBook_unreadableFile_notSavedOver() throws Exception {
+        Path filePath = storageManager.getAddressBookFilePath();
+        Files.writeString(filePath, "not json");
+        assertThrows(DataConversionException.class, () -> storageManager.readAddressBook());
+
+        assertThrows(IOException.class, () -> storageManager.saveAddressBook(new AddressBook()));
+        assertEquals("not json", Files.readString(filePath));
+
+        // file moved away -> saved again
+        Files.delete(filePath);
+        storageManager.saveAddressBook(new AddressBook());
+        assertTrue(storageManager.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_unreadableFileWriteBehind_notSavedOver() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        StorageManager writeBehindStorageManager = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        Files.writeString(filePath, "not json");
+        assertThrows(DataConversionException.class, () -> writeBehindStorageManager.readAddressBook());
+
+        assertThrows(IOException.class, () -> writeBehindStorageManager.saveAddressBook(new AddressBook()));
+        writeBehindStorageManager.flushAddressBook();
+        assertEquals("not json", Files.readString(filePath));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts the number of times it has saved.
+     */
+    private static class SaveCountingAddressBookStorage extends JsonAddressBookStorage {
+        private int saveCount = 0;
+
+        private SaveCountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
 }
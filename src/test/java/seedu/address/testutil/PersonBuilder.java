@@ -1,8 +1,6 @@
 package seedu.address.testutil;
 
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import seedu.address.model.person.Address;
@@ -11,7 +9,6 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
-import seedu.address.model.task.Task;
 import seedu.address.model.util.SampleDataUtil;
 
 /**
@@ -30,8 +27,6 @@ public class PersonBuilder {
     private Address address;
     private Set<Tag> tags;
 
-    private List<Task> tasks;
-
     /**
      * Creates a {@code PersonBuilder} with the default details.
      */
@@ -41,7 +36,6 @@ public class PersonBuilder {
         email = new Email(DEFAULT_EMAIL);
         address = new Address(DEFAULT_ADDRESS);
         tags = new HashSet<>();
-        tasks = new ArrayList<>();
     }
 
     /**
@@ -53,7 +47,6 @@ public class PersonBuilder {
         email = personToCopy.getEmail();
         address = personToCopy.getAddress();
         tags = new HashSet<>(personToCopy.getTags());
-        tasks = new ArrayList<>(personToCopy.getTasks());
     }
 
     /**
@@ -97,7 +90,7 @@ public class PersonBuilder {
     }
 
     public Person build() {
-        return new Person(name, phone, email, address, tags, tasks);
+        return new Person(name, phone, email, address, tags);
     }
 
 }